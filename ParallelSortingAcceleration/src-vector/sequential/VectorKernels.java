@@ -0,0 +1,186 @@
+package sequential;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SortKernels on jdk.incubator.vector with 8 x 32-bit lanes (AVX2, or AVX-512 at 256 bits)
+ * Partition: each vector is compared with the pivot, and the resulting 8-bit mask selects a
+ * precomputed shuffle that packs the lanes below the pivot to the front (a compress emulated
+ * with a permutation, as JDK 17 has no compress operation). The lower side is stored back in
+ * place, which is safe because the write cursor never passes the read cursor; the upper side
+ * goes to scratch and is copied after it.
+ * Small sort: a 16-key bitonic network on two registers; every stage is a lane permutation,
+ * a min, a max and a blend.
+ * Compile with --add-modules jdk.incubator.vector; loaded reflectively by SimdQuickSort.
+ */
+public class VectorKernels implements SortKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+    private static final int LANES = SPECIES.length();
+
+    /**
+     * For every 8-bit mask, the shuffle moving the set lanes to the front in order
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final VectorShuffle<Integer>[] LEFT_PACK = new VectorShuffle[1 << LANES];
+
+    /**
+     * Network steps as {block size k, partner distance j}; j == 8 crosses the two registers
+     */
+    private static final int[][] STEPS = {{2, 1}, {4, 2}, {4, 1}, {8, 4}, {8, 2}, {8, 1},
+            {16, 8}, {16, 4}, {16, 2}, {16, 1}};
+
+    /**
+     * Steps that only involve the first register, enough to sort 8 keys
+     */
+    private static final int STEPS_FOR_8 = 6;
+
+    /**
+     * Lane permutations pairing lane i with lane i ^ j, indexed by j
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final VectorShuffle<Integer>[] PARTNER = new VectorShuffle[LANES];
+
+    /**
+     * Per step, the lanes of each register that keep the larger key of their pair
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final VectorMask<Integer>[][] TAKE_MAX = new VectorMask[2][STEPS.length];
+
+    private static final IntVector MAX = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+
+    static {
+        for (int mask = 0; mask < LEFT_PACK.length; mask++) {
+            int[] order = new int[LANES];
+            int next = 0;
+            for (int lane = 0; lane < LANES; lane++) {
+                if ((mask & (1 << lane)) != 0) {
+                    order[next++] = lane;
+                }
+            }
+            for (int lane = 0; lane < LANES; lane++) {
+                if ((mask & (1 << lane)) == 0) {
+                    order[next++] = lane;
+                }
+            }
+            LEFT_PACK[mask] = VectorShuffle.fromArray(SPECIES, order, 0);
+        }
+
+        for (int j = 1; j < LANES; j <<= 1) {
+            int[] partner = new int[LANES];
+            for (int lane = 0; lane < LANES; lane++) {
+                partner[lane] = lane ^ j;
+            }
+            PARTNER[j] = VectorShuffle.fromArray(SPECIES, partner, 0);
+        }
+
+        // Bitonic rule: in block k, key g is in an ascending block when (g & k) == 0,
+        // and keeps the larger key exactly when it is the upper partner of an ascending pair
+        // or the lower partner of a descending one
+        for (int register = 0; register < 2; register++) {
+            for (int step = 0; step < STEPS.length; step++) {
+                int k = STEPS[step][0];
+                int j = STEPS[step][1];
+                boolean[] takeMax = new boolean[LANES];
+                for (int lane = 0; lane < LANES; lane++) {
+                    int g = register * LANES + lane;
+                    takeMax[lane] = ((g & k) == 0) != ((g & j) == 0);
+                }
+                TAKE_MAX[register][step] = VectorMask.fromArray(SPECIES, takeMax, 0);
+            }
+        }
+    }
+
+    /**
+     * Refuse to load where 256-bit vectors would be emulated, so the scalar kernels are used
+     */
+    public VectorKernels() {
+        if (IntVector.SPECIES_PREFERRED.vectorBitSize() < SPECIES.vectorBitSize()) {
+            throw new UnsupportedOperationException("No 256-bit vector support");
+        }
+    }
+
+    @Override
+    public void sortSmall(int[] arr, int lo, int hi) {
+        int n = hi - lo;
+        if (n <= 1) {
+            return;
+        }
+
+        // Pad missing lanes with MAX, which sorts to the end and is never stored
+        VectorMask<Integer> inA = SPECIES.indexInRange(0, n);
+        IntVector a = MAX.blend(IntVector.fromArray(SPECIES, arr, lo, inA), inA);
+
+        if (n <= LANES) {
+            for (int step = 0; step < STEPS_FOR_8; step++) {
+                a = exchange(a, step, 0);
+            }
+            a.intoArray(arr, lo, inA);
+            return;
+        }
+
+        VectorMask<Integer> inB = SPECIES.indexInRange(LANES, n);
+        IntVector b = MAX.blend(IntVector.fromArray(SPECIES, arr, lo + LANES, inB), inB);
+        for (int step = 0; step < STEPS.length; step++) {
+            if (STEPS[step][1] == LANES) {
+                IntVector min = a.min(b);
+                b = a.max(b);
+                a = min;
+            } else {
+                a = exchange(a, step, 0);
+                b = exchange(b, step, 1);
+            }
+        }
+        a.intoArray(arr, lo);
+        b.intoArray(arr, lo + LANES, inB);
+    }
+
+    /**
+     * One in-register compare-exchange step of the network
+     */
+    private static IntVector exchange(IntVector v, int step, int register) {
+        IntVector partner = v.rearrange(PARTNER[STEPS[step][1]]);
+        return v.min(partner).blend(v.max(partner), TAKE_MAX[register][step]);
+    }
+
+    @Override
+    public int partitionLess(int[] arr, int lo, int hi, int pivot, int[] scratch) {
+        IntVector pivots = IntVector.broadcast(SPECIES, pivot);
+        int left = lo;
+        int right = 0;
+        int i = lo;
+
+        for (; i + LANES <= hi; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, arr, i);
+            int less = (int) v.compare(VectorOperators.LT, pivots).toLong();
+            int count = Integer.bitCount(less);
+
+            // Full-width stores; only the first count (or LANES - count) lanes are kept
+            v.rearrange(LEFT_PACK[less]).intoArray(arr, left);
+            v.rearrange(LEFT_PACK[~less & (LEFT_PACK.length - 1)]).intoArray(scratch, right);
+            left += count;
+            right += LANES - count;
+        }
+
+        for (; i < hi; i++) {
+            int value = arr[i];
+            if (value < pivot) {
+                arr[left++] = value;
+            } else {
+                scratch[right++] = value;
+            }
+        }
+
+        System.arraycopy(scratch, 0, arr, left, right);
+        return left;
+    }
+
+    @Override
+    public String description() {
+        return "vector " + SPECIES.vectorBitSize() + "-bit";
+    }
+}
\ No newline at end of file
@@ -3,15 +3,15 @@ import sequential.*;
 
 /**
  * Main application entry point
- * Phase 1: Sequential Algorithms Foundation
+ * Sequential baselines and their parallel implementations
  */
 public class Main {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         System.out.println("\n");
         System.out.println("╔══════════════════════════════════════════════════════════════════════════════╗");
-        System.out.println("║         PARALLEL ACCELERATION OF SORTING ALGORITHMS - PHASE 1               ║");
-        System.out.println("║                     Sequential Baseline Implementation                       ║");
+        System.out.println("║                 PARALLEL ACCELERATION OF SORTING ALGORITHMS                  ║");
+        System.out.println("║              Sequential Baselines and Parallel Implementations               ║");
         System.out.println("╚══════════════════════════════════════════════════════════════════════════════╝");
         System.out.println();
 
@@ -21,6 +21,42 @@ public class Main {
         } else if (args.length > 0 && args[0].equals("--full")) {
             // Full benchmark mode
             PerformanceTester.runBenchmark();
+        } else if (args.length > 0 && args[0].equals("--select")) {
+            // Selection and top-k against a full sort
+            PerformanceTester.runSelectionBenchmark();
+        } else if (args.length > 0 && args[0].equals("--columnar")) {
+            // Multi-column table sort against sorting row objects
+            PerformanceTester.runColumnarBenchmark();
+        } else if (args.length > 0 && args[0].equals("--merge")) {
+            // Merging pre-sorted runs against re-sorting them
+            PerformanceTester.runMergeBenchmark();
+        } else if (args.length > 0 && args[0].equals("--adversarial")) {
+            // QuickSort against IntroSort on median-of-three killer inputs
+            PerformanceTester.runAdversarialBenchmark();
+        } else if (args.length > 0 && args[0].equals("--micro")) {
+            // Forked, warmed-up microbenchmark mode
+            MicroBenchmark.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("--scaling")) {
+            // Strong/weak scaling sweep over worker counts
+            ScalingBenchmark.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("--memory")) {
+            // Every algorithm in forked JVMs at fixed heap limits
+            MemoryBenchmark.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("--load")) {
+            // Throughput and latency percentiles of the sort service under concurrent load
+            LoadGenerator.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length > 0 && args[0].equals("--serve")) {
+            // Sort service over loopback HTTP: --serve [port]
+            service.SortHttpServer.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length >= 3 && args[0].equals("--external")) {
+            // Out-of-core sort of a binary int file: --external <input> <output> [tempDir]
+            java.nio.file.Path output = java.nio.file.Paths.get(args[2]);
+            java.nio.file.Path tempDir = args.length > 3 ? java.nio.file.Paths.get(args[3])
+                    : output.toAbsolutePath().getParent();
+            external.ExternalSort.sort(java.nio.file.Paths.get(args[1]), output, tempDir);
+        } else if (args.length >= 3 && args[0].equals("--distributed")) {
+            // Sample sort across worker JVMs: --distributed <input> <output> [workers] [tempDir] [workerHeap]
+            distributed.DistributedSort.main(java.util.Arrays.copyOfRange(args, 1, args.length));
         } else {
             // Interactive menu
             showMenu();
@@ -37,10 +73,14 @@ public class Main {
         System.out.println("  2. Full Benchmark (Test all sizes and data types)");
         System.out.println("  3. Custom Test (Choose size and algorithm)");
         System.out.println("  4. Data Generator Demo");
+        System.out.println("  5. Selection Benchmark (select / partial sort / top-k vs full sort)");
+        System.out.println("  6. Merge Benchmark (merge-path merge of sorted runs vs re-sort)");
+        System.out.println("  7. Columnar Benchmark (multi-key table sort vs row objects)");
+        System.out.println("  8. Adversarial Benchmark (QuickSort vs IntroSort on median-of-3 killers)");
         System.out.println();
 
         java.util.Scanner scanner = new java.util.Scanner(System.in);
-        System.out.print("Enter choice (1-4): ");
+        System.out.print("Enter choice (1-8): ");
 
         try {
             int choice = scanner.nextInt();
@@ -59,6 +99,18 @@ public class Main {
                 case 4:
                     dataGeneratorDemo();
                     break;
+                case 5:
+                    PerformanceTester.runSelectionBenchmark();
+                    break;
+                case 6:
+                    PerformanceTester.runMergeBenchmark();
+                    break;
+                case 7:
+                    PerformanceTester.runColumnarBenchmark();
+                    break;
+                case 8:
+                    PerformanceTester.runAdversarialBenchmark();
+                    break;
                 default:
                     System.out.println("Invalid choice. Running quick test...");
                     PerformanceTester.quickTest();
@@ -85,6 +137,16 @@ public class Main {
         System.out.println("  1. QuickSort");
         System.out.println("  2. MergeSort");
         System.out.println("  3. BitonicSort");
+        System.out.println("  4. Parallel MergeSort");
+        System.out.println("  5. Parallel QuickSort");
+        System.out.println("  6. Parallel BitonicSort");
+        System.out.println("  7. Parallel RadixSort");
+        System.out.println("  8. Parallel SampleSort");
+        System.out.println("  9. Adaptive SortEngine");
+        System.out.println("  10. Arena MergeSort (allocation-free)");
+        System.out.println("  11. Parallel Natural MergeSort");
+        System.out.println("  12. SIMD QuickSort (" + SimdQuickSort.kernels() + " kernels)");
+        System.out.println("  13. IntroSort (branchless block partition)");
         System.out.print("Choice: ");
         int algoChoice = scanner.nextInt();
 
@@ -92,6 +154,16 @@ public class Main {
             case 1 -> "QuickSort";
             case 2 -> "MergeSort";
             case 3 -> "BitonicSort";
+            case 4 -> "ParallelMergeSort";
+            case 5 -> "ParallelQuickSort";
+            case 6 -> "ParallelBitonicSort";
+            case 7 -> "ParallelRadixSort";
+            case 8 -> "ParallelSampleSort";
+            case 9 -> "SortEngine";
+            case 10 -> "ArenaMergeSort";
+            case 11 -> "NaturalMergeSort";
+            case 12 -> "SimdQuickSort";
+            case 13 -> "IntroSort";
             default -> "QuickSort";
         };
 
@@ -100,27 +172,24 @@ public class Main {
         System.out.println("  2. Sorted");
         System.out.println("  3. Reverse Sorted");
         System.out.println("  4. Nearly Sorted");
+        System.out.println("  5. Duplicates");
+        System.out.println("  6. Zipf");
+        System.out.println("  7. Gaussian");
+        System.out.println("  8. Sawtooth");
+        System.out.println("  9. Organ Pipe");
+        System.out.println("  10. Few Unique");
+        System.out.println("  11. All Equal");
+        System.out.println("  12. Sorted + Random Tail");
         System.out.print("Choice: ");
         int dataChoice = scanner.nextInt();
 
-        String dataType = switch (dataChoice) {
-            case 1 -> "Random";
-            case 2 -> "Sorted";
-            case 3 -> "Reverse";
-            case 4 -> "Nearly Sorted";
-            default -> "Random";
-        };
+        String[] dataTypes = PerformanceTester.ALL_DATA_TYPES;
+        String dataType = dataChoice >= 1 && dataChoice <= dataTypes.length ? dataTypes[dataChoice - 1] : "Random";
 
         System.out.println("\n" + "─".repeat(80));
         System.out.println("Running test...\n");
 
-        int[] data = switch (dataType) {
-            case "Random" -> DataGenerator.generateRandomArray(size);
-            case "Sorted" -> DataGenerator.generateSortedArray(size);
-            case "Reverse" -> DataGenerator.generateReverseSortedArray(size);
-            case "Nearly Sorted" -> DataGenerator.generateNearlySortedArray(size);
-            default -> DataGenerator.generateRandomArray(size);
-        };
+        int[] data = PerformanceTester.generateDataByType(dataType, size);
 
         PerformanceTester.TestResult result = PerformanceTester.testAlgorithm(algorithm, data, dataType);
         System.out.println(result);
@@ -156,6 +225,14 @@ public class Main {
         int[] duplicates = DataGenerator.generateArrayWithDuplicates(size);
         DataGenerator.printArray(duplicates, size);
 
+        // The remaining distributions, by benchmark name
+        String[] extraTypes = {"Zipf", "Gaussian", "Sawtooth", "Organ Pipe", "Few Unique", "All Equal",
+                "Sorted Random Tail"};
+        for (int i = 0; i < extraTypes.length; i++) {
+            System.out.println("\n" + (i + 6) + ". " + extraTypes[i] + ":");
+            DataGenerator.printArray(PerformanceTester.generateDataByType(extraTypes[i], size), size);
+        }
+
         System.out.println("\n" + "─".repeat(80));
         System.out.println("Data generator working correctly! ✓");
         System.out.println("─".repeat(80));
@@ -0,0 +1,116 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Report rendering and command line parsing shared by the benchmark harnesses
+ * Each harness keeps its own Options and Result types. This class parses "--flag value" pairs,
+ * handling the --format and --output flags every harness accepts, renders results as CSV or
+ * JSON, and writes the report to a file or standard output.
+ */
+public final class BenchmarkReport {
+
+    private BenchmarkReport() {
+    }
+
+    /**
+     * One result line of a report
+     */
+    public interface Row {
+        String toCsv();
+
+        String toJson();
+    }
+
+    /**
+     * Output settings common to every harness
+     */
+    public static class Options {
+        public String format = "csv";
+        public String output = null;
+    }
+
+    /**
+     * Handler for the flags specific to one harness
+     */
+    public interface Flags {
+
+        /**
+         * Apply one flag and its value
+         * @return false if the flag is unknown to the harness
+         */
+        boolean accept(String flag, String value);
+    }
+
+    /**
+     * Parse "--flag value" pairs: --format and --output go to options, the rest to flags
+     */
+    public static void parse(String[] args, Options options, Flags flags) {
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + flag);
+            }
+            String value = args[++i];
+            switch (flag) {
+                case "--format":
+                    options.format = value;
+                    break;
+                case "--output":
+                    options.output = value;
+                    break;
+                default:
+                    if (!flags.accept(flag, value)) {
+                        throw new IllegalArgumentException("Unknown option: " + flag);
+                    }
+            }
+        }
+    }
+
+    /**
+     * Parse a comma-separated list of ints
+     */
+    public static int[] ints(String value) {
+        return Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+    }
+
+    /**
+     * Render rows as CSV, under the given header, or as a JSON array
+     */
+    public static String format(List<? extends Row> rows, String csvHeader, String format) {
+        StringBuilder out = new StringBuilder();
+        if (format.equals("json")) {
+            out.append("[\n");
+            for (int i = 0; i < rows.size(); i++) {
+                out.append("  ").append(rows.get(i).toJson());
+                out.append(i < rows.size() - 1 ? ",\n" : "\n");
+            }
+            out.append("]\n");
+        } else if (format.equals("csv")) {
+            out.append(csvHeader).append('\n');
+            for (Row row : rows) {
+                out.append(row.toCsv()).append('\n');
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Write the report to the output file, or print it if there is none
+     */
+    public static void write(String report, Options options) throws IOException {
+        if (options.output != null) {
+            Files.write(Paths.get(options.output), report.getBytes(StandardCharsets.UTF_8));
+            System.out.println("Results written to " + options.output);
+        } else {
+            System.out.println(report);
+        }
+    }
+}
\ No newline at end of file
@@ -1,45 +1,96 @@
 package benchmark;
 
-import java.util.Random;
 import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 
 /**
  * Generates various types of test data for sorting algorithms
+ * Arrays are filled in parallel blocks. Block b always draws from the b-th split of a
+ * SplittableRandom created from the seed, so the same seed gives the same array regardless of
+ * thread count or machine. Set the seed with setSeed or -Dsorting.seed=n (default 42).
  */
 public class DataGenerator {
-    private static final Random random = new Random();
 
     /**
-     * Generate random array
+     * Elements per independently seeded fill block
      */
-    public static int[] generateRandomArray(int size) {
+    private static final int BLOCK = 1 << 16;
+
+    private static volatile long seed = Long.getLong("sorting.seed", 42L);
+
+    /**
+     * Fills arr[from..to) using the block's own random stream
+     */
+    private interface BlockFiller {
+        void fill(int[] arr, int from, int to, SplittableRandom random);
+    }
+
+    /**
+     * Set the seed used by every generator
+     */
+    public static void setSeed(long newSeed) {
+        seed = newSeed;
+    }
+
+    /**
+     * Seed used by every generator
+     */
+    public static long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Allocate an array and fill its blocks in parallel, each block with its own split stream
+     */
+    private static int[] parallelFill(int size, BlockFiller filler) {
         int[] arr = new int[size];
-        for (int i = 0; i < size; i++) {
-            arr[i] = random.nextInt(size * 10);
+        int blocks = (size + BLOCK - 1) / BLOCK;
+
+        // Splitting is sequential and cheap, which fixes each block's stream independent of scheduling
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[blocks];
+        for (int b = 0; b < blocks; b++) {
+            streams[b] = root.split();
         }
+
+        IntStream.range(0, blocks).parallel().forEach(b ->
+                filler.fill(arr, b * BLOCK, (int) Math.min(size, (b + 1L) * BLOCK), streams[b]));
         return arr;
     }
 
+    /**
+     * Generate random array
+     */
+    public static int[] generateRandomArray(int size) {
+        int bound = (int) Math.min(Integer.MAX_VALUE, Math.max(1, size * 10L));
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = random.nextInt(bound);
+            }
+        });
+    }
+
     /**
      * Generate sorted array (best case for some algorithms)
      */
     public static int[] generateSortedArray(int size) {
-        int[] arr = new int[size];
-        for (int i = 0; i < size; i++) {
-            arr[i] = i;
-        }
-        return arr;
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = i;
+            }
+        });
     }
 
     /**
      * Generate reverse sorted array (worst case for some algorithms)
      */
     public static int[] generateReverseSortedArray(int size) {
-        int[] arr = new int[size];
-        for (int i = 0; i < size; i++) {
-            arr[i] = size - i;
-        }
-        return arr;
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = size - i;
+            }
+        });
     }
 
     /**
@@ -49,6 +100,8 @@ public class DataGenerator {
         int[] arr = generateSortedArray(size);
         int swaps = size / 10; // 10% unsorted
 
+        // Swaps span the whole array, so they are drawn from one sequential stream
+        SplittableRandom random = new SplittableRandom(seed);
         for (int i = 0; i < swaps; i++) {
             int idx1 = random.nextInt(size);
             int idx2 = random.nextInt(size);
@@ -64,13 +117,119 @@ public class DataGenerator {
      * Generate array with duplicates
      */
     public static int[] generateArrayWithDuplicates(int size) {
+        int uniqueValues = Math.max(1, size / 10); // Only 10% unique values
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = random.nextInt(uniqueValues);
+            }
+        });
+    }
+
+    /**
+     * Generate Zipf-distributed values: value k in [1, distinct] with probability proportional
+     * to 1 / k^exponent, as in skewed key popularity
+     */
+    public static int[] generateZipfArray(int size, int distinct, double exponent) {
+        if (distinct < 1 || exponent <= 0) {
+            throw new IllegalArgumentException("Zipf needs distinct >= 1 and exponent > 0");
+        }
+        ZipfSampler sampler = new ZipfSampler(distinct, exponent);
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = sampler.sample(random);
+            }
+        });
+    }
+
+    /**
+     * Generate Zipf data with exponent 1 over up to a million distinct values
+     */
+    public static int[] generateZipfArray(int size) {
+        return generateZipfArray(size, Math.max(1, Math.min(size, 1_000_000)), 1.0);
+    }
+
+    /**
+     * Generate normally distributed values centred on 0 with standard deviation size / 8
+     */
+    public static int[] generateGaussianArray(int size) {
+        double deviation = Math.max(1.0, size / 8.0);
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = (int) Math.round(random.nextGaussian() * deviation);
+            }
+        });
+    }
+
+    /**
+     * Generate a sawtooth: 16 ascending runs, each restarting from 0
+     */
+    public static int[] generateSawtoothArray(int size) {
+        int period = Math.max(1, (size + 15) / 16);
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = i % period;
+            }
+        });
+    }
+
+    /**
+     * Generate an organ pipe: ascending to the middle, then descending
+     */
+    public static int[] generateOrganPipeArray(int size) {
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = Math.min(i, size - 1 - i);
+            }
+        });
+    }
+
+    /**
+     * Generate values drawn from only 8 distinct keys
+     */
+    public static int[] generateFewUniqueArray(int size) {
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = random.nextInt(8);
+            }
+        });
+    }
+
+    /**
+     * Generate an array whose elements are all equal
+     */
+    public static int[] generateAllEqualArray(int size) {
         int[] arr = new int[size];
-        int uniqueValues = size / 10; // Only 10% unique values
+        Arrays.fill(arr, 42);
+        return arr;
+    }
 
+    /**
+     * Generate a sorted array whose last 10% is replaced by random values, as with appended batches
+     */
+    public static int[] generateSortedWithRandomTailArray(int size) {
+        int sortedPrefix = size - size / 10;
+        int bound = (int) Math.min(Integer.MAX_VALUE, Math.max(1, size * 10L));
+        return parallelFill(size, (arr, from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = i < sortedPrefix ? i : random.nextInt(bound);
+            }
+        });
+    }
+
+    /**
+     * Generate a median-of-three killer: input on which sequential.QuickSort runs in O(n²)
+     * The keys are chosen by McIlroy's adversary while a mirror of QuickSort's partition sorts
+     * them, so generation itself costs O(n²); keep sizes in the tens of thousands. The distinct
+     * ranks are spread over the non-negative int range, so range-based shortcuts such as the
+     * counting sort of SortEngine do not apply.
+     */
+    public static int[] generateMedianOfThreeKillerArray(int size) {
+        int[] ranks = new MedianOfThreeAdversary(size).run();
+        int stride = Integer.MAX_VALUE / Math.max(1, size);
         for (int i = 0; i < size; i++) {
-            arr[i] = random.nextInt(uniqueValues);
+            ranks[i] *= stride;
         }
-        return arr;
+        return ranks;
     }
 
     /**
@@ -107,4 +266,161 @@ public class DataGenerator {
         }
         System.out.println("]");
     }
+
+    /**
+     * Zipf sampling by rejection-inversion (Hörmann and Derflinger), O(1) time and space per draw
+     */
+    private static class ZipfSampler {
+        private final int n;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralN;
+        private final double s;
+
+        ZipfSampler(int n, double exponent) {
+            this.n = n;
+            this.exponent = exponent;
+            this.hIntegralX1 = hIntegral(1.5) - 1.0;
+            this.hIntegralN = hIntegral(n + 0.5);
+            this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        /**
+         * Draw one value in [1, n]
+         */
+        int sample(SplittableRandom random) {
+            while (true) {
+                double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+                double x = hIntegralInverse(u);
+                int k = (int) (x + 0.5);
+                if (k < 1) {
+                    k = 1;
+                } else if (k > n) {
+                    k = n;
+                }
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                    return k;
+                }
+            }
+        }
+
+        /**
+         * Integral of h from 1 to x, shifted so it is defined for every exponent
+         */
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1 - exponent) * logX) * logX;
+        }
+
+        /**
+         * Unnormalized density 1 / x^exponent
+         */
+        private double h(double x) {
+            return Math.exp(-exponent * Math.log(x));
+        }
+
+        /**
+         * Inverse of hIntegral
+         */
+        private double hIntegralInverse(double x) {
+            double t = Math.max(-1, x * (1 - exponent));
+            return Math.exp(helper1(t) * x);
+        }
+
+        /**
+         * log(1 + x) / x, stable near 0
+         */
+        private static double helper1(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+        }
+
+        /**
+         * (exp(x) - 1) / x, stable near 0
+         */
+        private static double helper2(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x / 3 * (1 + 0.25 * x));
+        }
+    }
+
+    /**
+     * McIlroy's quicksort adversary ("A Killer Adversary for Quicksort"), run against a mirror of
+     * the median-of-three Lomuto partition in sequential.QuickSort
+     * Every key starts as "gas", larger than any assigned key. When two gas keys are compared, the
+     * one that is not the current pivot candidate is frozen to the next smallest value, so each
+     * pivot ends up near the bottom of its range. Keys still gas at the end are frozen in order.
+     */
+    private static class MedianOfThreeAdversary {
+        private final int[] value;
+        private final int[] order;
+        private final int gas;
+        private int solid;
+        private int candidate;
+
+        MedianOfThreeAdversary(int size) {
+            value = new int[size];
+            order = new int[size];
+            gas = size;
+            Arrays.fill(value, gas);
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+        }
+
+        int[] run() {
+            quickSort(0, order.length - 1);
+            for (int i = 0; i < value.length; i++) {
+                if (value[i] == gas) {
+                    value[i] = solid++;
+                }
+            }
+            return value;
+        }
+
+        private int compare(int x, int y) {
+            if (value[x] == gas && value[y] == gas) {
+                value[x == candidate ? x : y] = solid++;
+            }
+            if (value[x] == gas) {
+                candidate = x;
+            } else if (value[y] == gas) {
+                candidate = y;
+            }
+            return Integer.compare(value[x], value[y]);
+        }
+
+        private void quickSort(int low, int high) {
+            while (low < high) {
+                int pivotIndex = partition(low, high);
+                if (pivotIndex - low < high - pivotIndex) {
+                    quickSort(low, pivotIndex - 1);
+                    low = pivotIndex + 1;
+                } else {
+                    quickSort(pivotIndex + 1, high);
+                    high = pivotIndex - 1;
+                }
+            }
+        }
+
+        private int partition(int low, int high) {
+            int mid = low + (high - low) / 2;
+            if (compare(order[mid], order[low]) < 0) swap(low, mid);
+            if (compare(order[high], order[low]) < 0) swap(low, high);
+            if (compare(order[mid], order[high]) < 0) swap(mid, high);
+            int pivot = order[high];
+            int i = low - 1;
+            for (int j = low; j < high; j++) {
+                if (compare(order[j], pivot) <= 0) {
+                    swap(++i, j);
+                }
+            }
+            swap(i + 1, high);
+            return i + 1;
+        }
+
+        private void swap(int i, int j) {
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+    }
 }
\ No newline at end of file
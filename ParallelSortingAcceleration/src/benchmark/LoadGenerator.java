@@ -0,0 +1,326 @@
+package benchmark;
+
+import service.LatencyRecorder;
+import service.SortHttpServer;
+import service.SortService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator for SortService
+ * Keeps a fixed number of requests in flight: each completion immediately issues that client's
+ * next request, so the concurrency level is exact and no client thread sits idle. Requests go
+ * straight to an in-process SortService, or over loopback HTTP to a SortHttpServer. Reports
+ * throughput and client-observed latency percentiles, which is what matters under concurrency,
+ * rather than single-call wall time.
+ *
+ * Usage: LoadGenerator [--mode inproc|http] [--clients 64,256] [--requests n] [--warmup n]
+ *                      [--size n] [--workers p] [--url http://host:port] [--format csv|json]
+ *                      [--output file]
+ * Without --url, http mode starts its own server on a free loopback port.
+ */
+public class LoadGenerator {
+
+    /**
+     * Number of distinct request templates; requests copy a template before sending
+     */
+    private static final int TEMPLATES = 1024;
+
+    /**
+     * Generator settings
+     */
+    public static class Options extends BenchmarkReport.Options {
+        public String mode = "inproc";
+        public int[] clients = {1, 16, 256, 1024};
+        public int requests = 200_000;
+        public int warmup = 50_000;
+        public int size = 64;
+        public int workers = Runtime.getRuntime().availableProcessors();
+        public String url = null;
+    }
+
+    /**
+     * One concurrency level
+     */
+    public static class Result implements BenchmarkReport.Row {
+        public final String mode;
+        public final int clients;
+        public final int size;
+        public final long requests;
+        public final long errors;
+        public final double seconds;
+        public final double throughput;
+        public final double p50Micros;
+        public final double p90Micros;
+        public final double p99Micros;
+        public final double maxMicros;
+
+        Result(String mode, int clients, int size, long requests, long errors, double seconds,
+               LatencyRecorder latency) {
+            this.mode = mode;
+            this.clients = clients;
+            this.size = size;
+            this.requests = requests;
+            this.errors = errors;
+            this.seconds = seconds;
+            this.throughput = requests / seconds;
+            this.p50Micros = latency.percentile(50) / 1000.0;
+            this.p90Micros = latency.percentile(90) / 1000.0;
+            this.p99Micros = latency.percentile(99) / 1000.0;
+            this.maxMicros = latency.max() / 1000.0;
+        }
+
+        static String csvHeader() {
+            return "mode,clients,size,requests,errors,seconds,throughput,p50Micros,p90Micros,p99Micros,maxMicros";
+        }
+
+        @Override
+        public String toCsv() {
+            return String.format("%s,%d,%d,%d,%d,%.4f,%.1f,%.1f,%.1f,%.1f,%.1f", mode, clients, size, requests,
+                    errors, seconds, throughput, p50Micros, p90Micros, p99Micros, maxMicros);
+        }
+
+        @Override
+        public String toJson() {
+            return String.format("{\"mode\": \"%s\", \"clients\": %d, \"size\": %d, \"requests\": %d, "
+                            + "\"errors\": %d, \"seconds\": %.4f, \"throughput\": %.1f, \"p50Micros\": %.1f, "
+                            + "\"p90Micros\": %.1f, \"p99Micros\": %.1f, \"maxMicros\": %.1f}",
+                    mode, clients, size, requests, errors, seconds, throughput, p50Micros, p90Micros,
+                    p99Micros, maxMicros);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-6s | Clients: %-5d | Size: %-6d | %10.0f req/s | p50 %9.1f us | p90 %9.1f us"
+                            + " | p99 %9.1f us | max %9.1f us | Errors: %d",
+                    mode, clients, size, throughput, p50Micros, p90Micros, p99Micros, maxMicros, errors);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = parseOptions(args);
+        List<Result> results = run(options);
+
+        BenchmarkReport.write(BenchmarkReport.format(results, Result.csvHeader(), options.format), options);
+    }
+
+    /**
+     * Drive every concurrency level against one service and collect the results
+     */
+    public static List<Result> run(Options options) throws IOException {
+        if (!options.mode.equals("inproc") && !options.mode.equals("http")) {
+            throw new IllegalArgumentException("Unknown mode: " + options.mode);
+        }
+
+        System.out.println("=".repeat(100));
+        System.out.println("SORT SERVICE LOAD - " + options.mode + ", " + options.size + " ints per request, "
+                + options.workers + " workers, " + options.requests + " requests per level");
+        System.out.println("=".repeat(100));
+
+        SplittableRandom random = new SplittableRandom(DataGenerator.getSeed());
+        int[][] templates = new int[TEMPLATES][options.size];
+        for (int[] template : templates) {
+            for (int i = 0; i < template.length; i++) {
+                template[i] = random.nextInt();
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        try (SortService service = new SortService(options.workers, SortService.DEFAULT_MAX_BATCHED_LENGTH,
+                SortService.DEFAULT_BATCH_ELEMENTS, SortService.DEFAULT_QUEUE_CAPACITY)) {
+            SortHttpServer server = null;
+            try {
+                Client client;
+                if (options.mode.equals("inproc")) {
+                    client = service::submit;
+                } else {
+                    String url = options.url;
+                    if (url == null) {
+                        server = new SortHttpServer(service, 0);
+                        url = "http://127.0.0.1:" + server.port();
+                    }
+                    client = httpClient(URI.create(url + "/sort"));
+                }
+
+                for (int clients : options.clients) {
+                    drive(client, templates, clients, options.warmup, new LatencyRecorder());
+                    service.resetStats();
+
+                    LatencyRecorder latency = new LatencyRecorder();
+                    long start = System.nanoTime();
+                    long errors = drive(client, templates, clients, options.requests, latency);
+                    double seconds = (System.nanoTime() - start) / 1e9;
+
+                    Result result = new Result(options.mode, clients, options.size, options.requests, errors,
+                            seconds, latency);
+                    System.out.println("  " + result);
+                    System.out.println("         server: " + service.stats());
+                    results.add(result);
+                }
+            } finally {
+                if (server != null) {
+                    server.close();
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Asynchronous sort endpoint: in-process service or HTTP
+     */
+    private interface Client {
+        CompletableFuture<int[]> sort(int[] data);
+    }
+
+    /**
+     * HTTP client posting big-endian ints, as SortHttpServer expects
+     */
+    private static Client httpClient(URI uri) {
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        return data -> {
+            ByteBuffer body = ByteBuffer.allocate(data.length * Integer.BYTES);
+            body.asIntBuffer().put(data);
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body.array()))
+                    .build();
+            return http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("HTTP " + response.statusCode());
+                }
+                int[] sorted = new int[response.body().length / Integer.BYTES];
+                ByteBuffer.wrap(response.body()).asIntBuffer().get(sorted);
+                return sorted;
+            });
+        };
+    }
+
+    /**
+     * Issue total requests with clients of them in flight; returns the number that failed
+     * or came back unsorted
+     */
+    private static long drive(Client client, int[][] templates, int clients, int total, LatencyRecorder latency) {
+        AtomicLong issued = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(total);
+        for (int c = 0; c < Math.min(clients, total); c++) {
+            issue(client, templates, total, issued, errors, done, latency);
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for requests", e);
+        }
+        return errors.get();
+    }
+
+    /**
+     * Send the next request, and on completion record it and send another
+     * Requests that complete before a callback can be attached are handled in the loop, so
+     * fast completions do not nest calls
+     */
+    private static void issue(Client client, int[][] templates, int total, AtomicLong issued, AtomicLong errors,
+                              CountDownLatch done, LatencyRecorder latency) {
+        while (true) {
+            long n = issued.getAndIncrement();
+            if (n >= total) {
+                return;
+            }
+            int[] data = templates[(int) (n % templates.length)].clone();
+            long start = System.nanoTime();
+            CompletableFuture<int[]> future = client.sort(data);
+            if (!future.isDone()) {
+                future.whenComplete((sorted, failure) -> {
+                    finish(sorted, failure, start, errors, done, latency);
+                    issue(client, templates, total, issued, errors, done, latency);
+                });
+                return;
+            }
+            int[] sorted = null;
+            Throwable failure = null;
+            try {
+                sorted = future.join();
+            } catch (CompletionException e) {
+                failure = e.getCause();
+            }
+            finish(sorted, failure, start, errors, done, latency);
+        }
+    }
+
+    /**
+     * Record one completed request
+     */
+    private static void finish(int[] sorted, Throwable failure, long start, AtomicLong errors, CountDownLatch done,
+                               LatencyRecorder latency) {
+        latency.record(System.nanoTime() - start);
+        if (failure != null || !isSorted(sorted)) {
+            errors.incrementAndGet();
+        }
+        done.countDown();
+    }
+
+    /**
+     * Plain ascending check; responses are small
+     */
+    private static boolean isSorted(int[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i - 1] > arr[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse command line flags into options
+     */
+    public static Options parseOptions(String[] args) {
+        Options options = new Options();
+        BenchmarkReport.parse(args, options, (flag, value) -> {
+            switch (flag) {
+                case "--mode":
+                    options.mode = value;
+                    return true;
+                case "--clients":
+                    options.clients = BenchmarkReport.ints(value);
+                    return true;
+                case "--requests":
+                    options.requests = Integer.parseInt(value);
+                    return true;
+                case "--warmup":
+                    options.warmup = Integer.parseInt(value);
+                    return true;
+                case "--size":
+                    options.size = Integer.parseInt(value);
+                    return true;
+                case "--workers":
+                    options.workers = Integer.parseInt(value);
+                    return true;
+                case "--url":
+                    options.url = value;
+                    return true;
+                default:
+                    return false;
+            }
+        });
+        if (options.requests < 1 || options.warmup < 0 || options.size < 0 || options.workers < 1
+                || Arrays.stream(options.clients).anyMatch(c -> c < 1)) {
+            throw new IllegalArgumentException("Requests, workers and client counts must be positive");
+        }
+        return options;
+    }
+}
\ No newline at end of file
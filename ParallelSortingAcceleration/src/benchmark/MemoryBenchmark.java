@@ -0,0 +1,222 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Memory-constrained benchmark: every algorithm runs in a forked JVM with a fixed -Xmx
+ * Each child sorts once to warm up and once measured, reporting wall time, allocated bytes,
+ * GC activity and the heap high-water mark, or OOM if the algorithm does not fit the budget.
+ * The child's input and working copy (2 * 4n bytes) count against the heap too.
+ *
+ * Usage: MemoryBenchmark [--algorithms a,b] [--heaps 64m,256m] [--size n] [--types t,u]
+ *                        [--format csv|json] [--output file]
+ */
+public class MemoryBenchmark {
+
+    /**
+     * Benchmark settings
+     */
+    public static class Options extends BenchmarkReport.Options {
+        public String[] algorithms = PerformanceTester.ALGORITHMS;
+        public String[] heaps = {"48m", "64m", "128m", "256m"};
+        public int size = 4_000_000;
+        public String[] dataTypes = {"Random"};
+    }
+
+    /**
+     * Outcome of one (algorithm, heap limit, data type) run
+     */
+    public static class Result implements BenchmarkReport.Row {
+        public final String algorithmName;
+        public final String heap;
+        public final int dataSize;
+        public final String dataType;
+        public final boolean outOfMemory;
+        public final double timeMs;
+        public final long allocatedBytes;
+        public final long gcCount;
+        public final long gcTimeMs;
+        public final long peakHeapBytes;
+
+        Result(String algorithmName, String heap, int dataSize, String dataType, boolean outOfMemory,
+               double timeMs, long allocatedBytes, long gcCount, long gcTimeMs, long peakHeapBytes) {
+            this.algorithmName = algorithmName;
+            this.heap = heap;
+            this.dataSize = dataSize;
+            this.dataType = dataType;
+            this.outOfMemory = outOfMemory;
+            this.timeMs = timeMs;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcTimeMs = gcTimeMs;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+
+        static String csvHeader() {
+            return "algorithm,heap,size,dataType,status,timeMs,allocatedBytes,gcCount,gcTimeMs,peakHeapBytes";
+        }
+
+        @Override
+        public String toCsv() {
+            return String.format("%s,%s,%d,%s,%s,%.6f,%d,%d,%d,%d", algorithmName, heap, dataSize, dataType,
+                    outOfMemory ? "OOM" : "OK", timeMs, allocatedBytes, gcCount, gcTimeMs, peakHeapBytes);
+        }
+
+        @Override
+        public String toJson() {
+            return String.format("{\"algorithm\": \"%s\", \"heap\": \"%s\", \"size\": %d, \"dataType\": \"%s\", "
+                            + "\"status\": \"%s\", \"timeMs\": %.6f, \"allocatedBytes\": %d, \"gcCount\": %d, "
+                            + "\"gcTimeMs\": %d, \"peakHeapBytes\": %d}",
+                    algorithmName, heap, dataSize, dataType, outOfMemory ? "OOM" : "OK", timeMs,
+                    allocatedBytes, gcCount, gcTimeMs, peakHeapBytes);
+        }
+
+        @Override
+        public String toString() {
+            if (outOfMemory) {
+                return String.format("%-20s | -Xmx%-6s | Size: %-9d | Type: %-13s | OUT OF MEMORY",
+                        algorithmName, heap, dataSize, dataType);
+            }
+            return String.format("%-20s | -Xmx%-6s | Size: %-9d | Type: %-13s | Time: %10.3f ms | "
+                            + "Alloc: %8.2f MB | GC: %d (%d ms) | Peak heap: %8.2f MB",
+                    algorithmName, heap, dataSize, dataType, timeMs, allocatedBytes / 1048576.0,
+                    gcCount, gcTimeMs, peakHeapBytes / 1048576.0);
+        }
+    }
+
+    /**
+     * Prefix of the line a forked child prints with its measurements
+     */
+    private static final String CHILD_RESULT = "RESULT";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--child")) {
+            runChild(args);
+            return;
+        }
+
+        Options options = parseOptions(args);
+        List<Result> results = run(options);
+
+        BenchmarkReport.write(BenchmarkReport.format(results, Result.csvHeader(), options.format), options);
+    }
+
+    /**
+     * Run every algorithm under every heap limit
+     */
+    public static List<Result> run(Options options) throws IOException, InterruptedException {
+        System.out.println("=".repeat(100));
+        System.out.println("MEMORY-CONSTRAINED BENCHMARK - heaps " + Arrays.toString(options.heaps)
+                + ", size " + options.size);
+        System.out.println("=".repeat(100));
+
+        List<Result> results = new ArrayList<>();
+        for (String dataType : options.dataTypes) {
+            for (String heap : options.heaps) {
+                System.out.println("\n  -Xmx" + heap + ", Data Type: " + dataType);
+                System.out.println("  " + "─".repeat(95));
+                for (String algorithm : options.algorithms) {
+                    Result result = runFork(algorithm, heap, options.size, dataType);
+                    System.out.println("  " + result);
+                    results.add(result);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Measure one algorithm in a JVM limited to the given heap
+     */
+    private static Result runFork(String algorithm, String heap, int size, String dataType)
+            throws IOException, InterruptedException {
+        String javaBin = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder builder = new ProcessBuilder(javaBin, "-Xmx" + heap,
+                "-cp", System.getProperty("java.class.path"),
+                MemoryBenchmark.class.getName(), "--child", algorithm, String.valueOf(size), dataType);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        Process process = builder.start();
+
+        String[] fields = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(CHILD_RESULT)) {
+                    fields = line.split(",");
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+
+        // Only a child that caught OutOfMemoryError reports OOM; a crash, an uncaught exception or
+        // an unknown algorithm name must not pass for running out of heap
+        if (fields == null) {
+            throw new IllegalStateException(algorithm + " at -Xmx" + heap + " exited with status " + exitCode
+                    + " without reporting a result");
+        }
+        if (fields[1].equals("OOM")) {
+            return new Result(algorithm, heap, size, dataType, true, 0, 0, 0, 0, 0);
+        }
+        if (!Boolean.parseBoolean(fields[7])) {
+            throw new IllegalStateException(algorithm + " produced unsorted output");
+        }
+        return new Result(algorithm, heap, size, dataType, false, Double.parseDouble(fields[2]),
+                Long.parseLong(fields[3]), Long.parseLong(fields[4]), Long.parseLong(fields[5]),
+                Long.parseLong(fields[6]));
+    }
+
+    /**
+     * Entry point inside a forked JVM: warm up, measure once, print the measurements
+     */
+    private static void runChild(String[] args) {
+        String algorithm = args[1];
+        int size = Integer.parseInt(args[2]);
+        String dataType = args[3];
+
+        try {
+            int[] data = PerformanceTester.generateDataByType(dataType, size);
+            PerformanceTester.testAlgorithm(algorithm, data, dataType);
+            PerformanceTester.TestResult result = PerformanceTester.testAlgorithm(algorithm, data, dataType);
+            System.out.println(String.join(",", CHILD_RESULT, "OK", String.valueOf(result.executionTimeMs),
+                    String.valueOf(result.allocatedBytesAllThreads), String.valueOf(result.gcCount),
+                    String.valueOf(result.gcTimeMs), String.valueOf(result.peakHeapBytes),
+                    String.valueOf(result.correctness)));
+        } catch (OutOfMemoryError e) {
+            System.out.println(CHILD_RESULT + ",OOM");
+        }
+    }
+
+    /**
+     * Parse command line flags into options
+     */
+    public static Options parseOptions(String[] args) {
+        Options options = new Options();
+        BenchmarkReport.parse(args, options, (flag, value) -> {
+            switch (flag) {
+                case "--algorithms":
+                    options.algorithms = value.split(",");
+                    return true;
+                case "--heaps":
+                    options.heaps = value.split(",");
+                    return true;
+                case "--size":
+                    options.size = Integer.parseInt(value);
+                    return true;
+                case "--types":
+                    options.dataTypes = value.split(",");
+                    return true;
+                default:
+                    return false;
+            }
+        });
+        return options;
+    }
+}
\ No newline at end of file
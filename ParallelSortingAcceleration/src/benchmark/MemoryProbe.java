@@ -0,0 +1,125 @@
+package benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Allocation, GC and heap measurements around a block of code
+ * Allocated bytes come from com.sun.management.ThreadMXBean: for the calling thread, and summed
+ * over every thread alive when the probe stops (worker threads that exit before then, such as
+ * BitonicSort's helpers, are not visible). The heap high-water mark is the sum of the heap pools'
+ * peak usage since start(), an upper bound on the true combined peak.
+ * Values are -1 when the JVM does not support a measurement.
+ */
+class MemoryProbe {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final List<MemoryPoolMXBean> POOLS = ManagementFactory.getMemoryPoolMXBeans();
+
+    private final long callerThreadId = Thread.currentThread().getId();
+    private final Map<Long, Long> startAllocations = new HashMap<>();
+    private long startGcCount;
+    private long startGcTimeMs;
+
+    long allocatedBytes = -1;
+    long allocatedBytesAllThreads = -1;
+    long gcCount;
+    long gcTimeMs;
+    long peakHeapBytes;
+
+    /**
+     * Begin measuring: snapshot allocation and GC counters and reset the pool peaks
+     */
+    void start() {
+        if (THREADS != null) {
+            long[] ids = THREADS.getAllThreadIds();
+            long[] bytes = THREADS.getThreadAllocatedBytes(ids);
+            for (int i = 0; i < ids.length; i++) {
+                startAllocations.put(ids[i], bytes[i]);
+            }
+        }
+        startGcCount = totalGcCount();
+        startGcTimeMs = totalGcTimeMs();
+        for (MemoryPoolMXBean pool : POOLS) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Finish measuring and fill in the results
+     */
+    void stop() {
+        if (THREADS != null) {
+            long[] ids = THREADS.getAllThreadIds();
+            long[] bytes = THREADS.getThreadAllocatedBytes(ids);
+            allocatedBytesAllThreads = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (bytes[i] < 0) {
+                    continue;
+                }
+                long delta = bytes[i] - startAllocations.getOrDefault(ids[i], 0L);
+                allocatedBytesAllThreads += delta;
+                if (ids[i] == callerThreadId) {
+                    allocatedBytes = delta;
+                }
+            }
+        }
+        gcCount = totalGcCount() - startGcCount;
+        gcTimeMs = totalGcTimeMs() - startGcTimeMs;
+
+        peakHeapBytes = 0;
+        for (MemoryPoolMXBean pool : POOLS) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peakHeapBytes += pool.getPeakUsage().getUsed();
+            }
+        }
+    }
+
+    /**
+     * Collections so far across all collectors
+     */
+    private static long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Accumulated collection time so far across all collectors
+     */
+    private static long totalGcTimeMs() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * The HotSpot thread bean with allocation tracking enabled, or null if unavailable
+     */
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,299 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JMH-style microbenchmark harness for the sorting algorithms
+ * Every (algorithm, size, data type) combination runs in freshly forked JVMs, with time-boxed
+ * warmup and measurement iterations. Each invocation sorts a fresh copy of the input made
+ * outside the timed region, and the sorted output is folded into a sink so the JIT cannot
+ * drop the work. Results report average time per sort and throughput as CSV or JSON.
+ *
+ * Usage: MicroBenchmark [--algorithms a,b] [--sizes n,m] [--types t,u] [--forks f]
+ *                       [--warmup i] [--iterations i] [--iteration-ms ms]
+ *                       [--format csv|json] [--output file]
+ */
+public class MicroBenchmark {
+
+    /**
+     * Harness settings with JMH-like defaults
+     */
+    public static class Options extends BenchmarkReport.Options {
+        public String[] algorithms = PerformanceTester.ALGORITHMS;
+        public int[] sizes = {1000, 10000, 100000, 1000000};
+        public String[] dataTypes = {"Random", "Sorted", "Reverse", "Nearly Sorted", "Duplicates"};
+        public int forks = 2;
+        public int warmupIterations = 5;
+        public int measurementIterations = 5;
+        public long iterationMillis = 500;
+    }
+
+    /**
+     * Aggregated measurements for one parameter combination
+     */
+    public static class Result implements BenchmarkReport.Row {
+        public final String algorithmName;
+        public final int dataSize;
+        public final String dataType;
+        public final int forks;
+        public final long invocations;
+        public final double avgTimeMs;
+        public final double errorMs;
+        public final double throughputOpsPerSec;
+
+        Result(String algorithmName, int dataSize, String dataType, int forks, long invocations,
+               double[] iterationNanosPerOp) {
+            this.algorithmName = algorithmName;
+            this.dataSize = dataSize;
+            this.dataType = dataType;
+            this.forks = forks;
+            this.invocations = invocations;
+
+            double mean = Arrays.stream(iterationNanosPerOp).average().orElse(Double.NaN);
+            double variance = 0;
+            for (double score : iterationNanosPerOp) {
+                variance += (score - mean) * (score - mean);
+            }
+            variance /= Math.max(1, iterationNanosPerOp.length - 1);
+
+            this.avgTimeMs = mean / 1_000_000.0;
+            // 99.9% normal-approximation confidence half-width, as JMH reports "Error"
+            this.errorMs = 3.29 * Math.sqrt(variance / iterationNanosPerOp.length) / 1_000_000.0;
+            this.throughputOpsPerSec = 1_000_000_000.0 / mean;
+        }
+
+        static String csvHeader() {
+            return "algorithm,size,dataType,forks,invocations,avgTimeMs,errorMs,throughputOpsPerSec";
+        }
+
+        @Override
+        public String toCsv() {
+            return String.format("%s,%d,%s,%d,%d,%.6f,%.6f,%.3f", algorithmName, dataSize, dataType,
+                    forks, invocations, avgTimeMs, errorMs, throughputOpsPerSec);
+        }
+
+        @Override
+        public String toJson() {
+            return String.format("{\"algorithm\": \"%s\", \"size\": %d, \"dataType\": \"%s\", "
+                            + "\"forks\": %d, \"invocations\": %d, \"avgTimeMs\": %.6f, "
+                            + "\"errorMs\": %.6f, \"throughputOpsPerSec\": %.3f}",
+                    algorithmName, dataSize, dataType, forks, invocations, avgTimeMs, errorMs,
+                    throughputOpsPerSec);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-25s | Size: %-10d | Type: %-15s | Avg: %10.3f ± %.3f ms | %12.2f ops/s",
+                    algorithmName, dataSize, dataType, avgTimeMs, errorMs, throughputOpsPerSec);
+        }
+    }
+
+    /**
+     * Prefix of the line a forked child prints with its per-iteration scores
+     */
+    private static final String CHILD_RESULT = "RESULT";
+
+    /**
+     * Keeps sorted output observable so the sort cannot be eliminated as dead code
+     */
+    private static volatile int sink;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--child")) {
+            runChild(args);
+            return;
+        }
+
+        Options options = parseOptions(args);
+        List<Result> results = run(options);
+
+        BenchmarkReport.write(BenchmarkReport.format(results, Result.csvHeader(), options.format), options);
+    }
+
+    /**
+     * Run every parameter combination and collect the aggregated results
+     */
+    public static List<Result> run(Options options) throws IOException, InterruptedException {
+        List<Result> results = new ArrayList<>();
+
+        System.out.println("=".repeat(100));
+        System.out.println("MICROBENCHMARK - " + options.forks + " fork(s), " + options.warmupIterations
+                + " warmup + " + options.measurementIterations + " measurement iterations of "
+                + options.iterationMillis + " ms");
+        System.out.println("=".repeat(100));
+
+        for (String algorithm : options.algorithms) {
+            for (int size : options.sizes) {
+                for (String dataType : options.dataTypes) {
+                    Result result = runCombination(options, algorithm, size, dataType);
+                    System.out.println("  " + result);
+                    results.add(result);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Measure one combination, in forked JVMs unless forks is 0
+     */
+    private static Result runCombination(Options options, String algorithm, int size, String dataType)
+            throws IOException, InterruptedException {
+        List<Double> scores = new ArrayList<>();
+        long invocations = 0;
+
+        if (options.forks == 0) {
+            invocations = measure(algorithm, size, dataType, options.warmupIterations,
+                    options.measurementIterations, options.iterationMillis, scores);
+        }
+
+        for (int fork = 0; fork < options.forks; fork++) {
+            String javaBin = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            ProcessBuilder builder = new ProcessBuilder(javaBin,
+                    "-cp", System.getProperty("java.class.path"),
+                    MicroBenchmark.class.getName(), "--child", algorithm, String.valueOf(size), dataType,
+                    String.valueOf(options.warmupIterations), String.valueOf(options.measurementIterations),
+                    String.valueOf(options.iterationMillis));
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+            Process process = builder.start();
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith(CHILD_RESULT)) {
+                        continue;
+                    }
+                    String[] fields = line.split(",");
+                    invocations += Long.parseLong(fields[1]);
+                    for (int i = 2; i < fields.length; i++) {
+                        scores.add(Double.parseDouble(fields[i]));
+                    }
+                }
+            }
+
+            int exit = process.waitFor();
+            if (exit != 0) {
+                throw new IllegalStateException("Benchmark fork for " + algorithm + " exited with " + exit);
+            }
+        }
+
+        double[] iterationScores = scores.stream().mapToDouble(Double::doubleValue).toArray();
+        return new Result(algorithm, size, dataType, options.forks, invocations, iterationScores);
+    }
+
+    /**
+     * Entry point inside a forked JVM: measure one combination and print its scores
+     */
+    private static void runChild(String[] args) {
+        String algorithm = args[1];
+        int size = Integer.parseInt(args[2]);
+        String dataType = args[3];
+        int warmup = Integer.parseInt(args[4]);
+        int iterations = Integer.parseInt(args[5]);
+        long iterationMillis = Long.parseLong(args[6]);
+
+        List<Double> scores = new ArrayList<>();
+        long invocations = measure(algorithm, size, dataType, warmup, iterations, iterationMillis, scores);
+
+        StringBuilder line = new StringBuilder(CHILD_RESULT).append(',').append(invocations);
+        for (double score : scores) {
+            line.append(',').append(score);
+        }
+        System.out.println(line);
+    }
+
+    /**
+     * Warm up, then run measurement iterations, adding each iteration's mean ns/op to scores
+     * @return number of measured invocations
+     */
+    private static long measure(String algorithm, int size, String dataType, int warmup,
+                                  int iterations, long iterationMillis, List<Double> scores) {
+        int[] data = PerformanceTester.generateDataByType(dataType, size);
+        int[] work = new int[size];
+
+        for (int i = 0; i < warmup; i++) {
+            iteration(algorithm, data, work, iterationMillis);
+        }
+
+        long invocations = 0;
+        for (int i = 0; i < iterations; i++) {
+            long[] iteration = iteration(algorithm, data, work, iterationMillis);
+            invocations += iteration[1];
+            scores.add((double) iteration[0] / iteration[1]);
+        }
+
+        if (!SortVerifier.verify(work, SortVerifier.multisetHash(data))) {
+            throw new IllegalStateException(algorithm + " produced incorrect output");
+        }
+        return invocations;
+    }
+
+    /**
+     * Invoke the sort repeatedly for at least iterationMillis of wall time
+     * Only the sort call itself is timed; the per-invocation copy is setup
+     * @return total timed nanoseconds and number of invocations
+     */
+    private static long[] iteration(String algorithm, int[] data, int[] work, long iterationMillis) {
+        long deadline = System.nanoTime() + iterationMillis * 1_000_000L;
+        long timed = 0;
+        long invocations = 0;
+
+        do {
+            System.arraycopy(data, 0, work, 0, data.length);
+
+            long start = System.nanoTime();
+            PerformanceTester.runAlgorithm(algorithm, work);
+            timed += System.nanoTime() - start;
+            invocations++;
+
+            if (work.length > 0) {
+                sink += work[0] ^ work[work.length >>> 1] ^ work[work.length - 1];
+            }
+        } while (System.nanoTime() < deadline);
+
+        return new long[]{timed, invocations};
+    }
+
+    /**
+     * Parse command line flags into options
+     */
+    public static Options parseOptions(String[] args) {
+        Options options = new Options();
+        BenchmarkReport.parse(args, options, (flag, value) -> {
+            switch (flag) {
+                case "--algorithms":
+                    options.algorithms = value.split(",");
+                    return true;
+                case "--sizes":
+                    options.sizes = BenchmarkReport.ints(value);
+                    return true;
+                case "--types":
+                    options.dataTypes = value.split(",");
+                    return true;
+                case "--forks":
+                    options.forks = Integer.parseInt(value);
+                    return true;
+                case "--warmup":
+                    options.warmupIterations = Integer.parseInt(value);
+                    return true;
+                case "--iterations":
+                    options.measurementIterations = Integer.parseInt(value);
+                    return true;
+                case "--iteration-ms":
+                    options.iterationMillis = Long.parseLong(value);
+                    return true;
+                default:
+                    return false;
+            }
+        });
+        return options;
+    }
+}
\ No newline at end of file
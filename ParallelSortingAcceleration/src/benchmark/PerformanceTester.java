@@ -2,6 +2,8 @@ package benchmark;
 
 import sequential.*;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Performance testing framework for sorting algorithms
  */
@@ -18,6 +20,24 @@ public class PerformanceTester {
         public double executionTimeMs;
         public boolean correctness;
 
+        /**
+         * Bytes allocated by the calling thread, and by every thread, during the sort (-1 if unsupported)
+         */
+        public long allocatedBytes = -1;
+        public long allocatedBytesAllThreads = -1;
+
+        /**
+         * Collections and collection time during the sort, and the heap high-water mark
+         */
+        public long gcCount;
+        public long gcTimeMs;
+        public long peakHeapBytes;
+
+        /**
+         * Operation counters summed over every thread, or null unless -Dsorting.instrument=true
+         */
+        public SortStats stats;
+
         public TestResult(String algorithmName, int dataSize, String dataType,
                           long executionTimeNanos, boolean correctness) {
             this.algorithmName = algorithmName;
@@ -30,8 +50,13 @@ public class PerformanceTester {
 
         @Override
         public String toString() {
-            return String.format("%-25s | Size: %-10d | Type: %-15s | Time: %10.3f ms | Correct: %s",
+            String line = String.format("%-25s | Size: %-10d | Type: %-15s | Time: %10.3f ms | Correct: %s",
                     algorithmName, dataSize, dataType, executionTimeMs, correctness ? "✓" : "✗");
+            if (allocatedBytesAllThreads >= 0) {
+                line += String.format(" | Alloc: %8.2f MB | GC: %d (%d ms) | Peak heap: %8.2f MB",
+                        allocatedBytesAllThreads / 1048576.0, gcCount, gcTimeMs, peakHeapBytes / 1048576.0);
+            }
+            return stats == null ? line : line + " | " + stats;
         }
     }
 
@@ -42,31 +67,127 @@ public class PerformanceTester {
         // Make a copy to preserve original data
         int[] testData = DataGenerator.copyArray(data);
 
+        // Fingerprint the input so the output can be checked to be a permutation of it
+        long inputHash = SortVerifier.multisetHash(data);
+
+        if (SortStats.ENABLED) {
+            SortStats.resetAll();
+        }
+
+        MemoryProbe probe = new MemoryProbe();
+        probe.start();
+
         // Measure execution time
         long startTime = System.nanoTime();
 
-        // Call appropriate sorting algorithm
+        runAlgorithm(algorithmName, testData);
+
+        long endTime = System.nanoTime();
+        probe.stop();
+        long executionTime = endTime - startTime;
+
+        // Verify correctness: sorted, and no element lost, duplicated or altered
+        boolean correct = SortVerifier.verify(testData, inputHash);
+
+        TestResult result = new TestResult(algorithmName, data.length, dataType, executionTime, correct);
+        if (SortStats.ENABLED) {
+            result.stats = SortStats.total();
+        }
+        result.allocatedBytes = probe.allocatedBytes;
+        result.allocatedBytesAllThreads = probe.allocatedBytesAllThreads;
+        result.gcCount = probe.gcCount;
+        result.gcTimeMs = probe.gcTimeMs;
+        result.peakHeapBytes = probe.peakHeapBytes;
+        return result;
+    }
+
+    /**
+     * Every algorithm name understood by runAlgorithm, in the order the benchmarks report them
+     */
+    public static final String[] ALGORITHMS = {"QuickSort", "MergeSort", "BitonicSort", "ParallelMergeSort",
+            "ParallelQuickSort", "ParallelBitonicSort", "ParallelRadixSort", "ParallelSampleSort",
+            "SortEngine", "ArenaMergeSort", "NaturalMergeSort", "SimdQuickSort", "IntroSort"};
+
+    /**
+     * Sort arr in place with the named algorithm
+     */
+    public static void runAlgorithm(String algorithmName, int[] arr) {
         switch (algorithmName) {
             case "QuickSort":
-                QuickSort.sort(testData);
+                QuickSort.sort(arr);
                 break;
             case "MergeSort":
-                MergeSort.sort(testData);
+                MergeSort.sort(arr);
                 break;
             case "BitonicSort":
-                BitonicSort.sort(testData);
+                BitonicSort.sort(arr);
+                break;
+            case "ArenaMergeSort":
+                ArenaMergeSort.sort(arr);
+                break;
+            case "SimdQuickSort":
+                SimdQuickSort.sort(arr);
+                break;
+            case "IntroSort":
+                IntroSort.sort(arr);
+                break;
+            case "ParallelMergeSort":
+                parallel.MergeSort.sort(arr);
+                break;
+            case "ParallelQuickSort":
+                parallel.QuickSort.sort(arr);
+                break;
+            case "ParallelBitonicSort":
+                parallel.BitonicSort.sort(arr);
+                break;
+            case "ParallelRadixSort":
+                parallel.RadixSort.sort(arr);
+                break;
+            case "ParallelSampleSort":
+                parallel.SampleSort.sort(arr);
+                break;
+            case "SortEngine":
+                parallel.SortEngine.sort(arr);
+                break;
+            case "NaturalMergeSort":
+                parallel.NaturalMergeSort.sort(arr);
                 break;
             default:
                 throw new IllegalArgumentException("Unknown algorithm: " + algorithmName);
         }
+    }
 
-        long endTime = System.nanoTime();
-        long executionTime = endTime - startTime;
-
-        // Verify correctness
-        boolean correct = DataGenerator.isSorted(testData);
-
-        return new TestResult(algorithmName, data.length, dataType, executionTime, correct);
+    /**
+     * Sort arr in place with the named algorithm, limiting parallel algorithms to the pool's workers
+     * Sequential algorithms ignore the pool
+     */
+    public static void runAlgorithm(String algorithmName, int[] arr, ForkJoinPool pool) {
+        switch (algorithmName) {
+            case "ParallelMergeSort":
+                parallel.MergeSort.sort(arr, pool, parallel.MergeSort.DEFAULT_THRESHOLD);
+                break;
+            case "ParallelQuickSort":
+                parallel.QuickSort.sort(arr, pool, parallel.QuickSort.DEFAULT_THRESHOLD);
+                break;
+            case "ParallelBitonicSort":
+                // Bitonic runs on its own barrier-synchronized threads, sized to match the pool
+                parallel.BitonicSort.sort(arr, pool.getParallelism());
+                break;
+            case "ParallelRadixSort":
+                parallel.RadixSort.sort(arr, pool);
+                break;
+            case "ParallelSampleSort":
+                parallel.SampleSort.sort(arr, pool);
+                break;
+            case "SortEngine":
+                parallel.SortEngine.sort(arr, pool);
+                break;
+            case "NaturalMergeSort":
+                parallel.NaturalMergeSort.sort(arr, pool);
+                break;
+            default:
+                runAlgorithm(algorithmName, arr);
+        }
     }
 
     /**
@@ -74,25 +195,21 @@ public class PerformanceTester {
      */
     public static void runBenchmark() {
         System.out.println("=".repeat(100));
-        System.out.println("SEQUENTIAL SORTING ALGORITHMS - PERFORMANCE BENCHMARK");
+        System.out.println("SEQUENTIAL AND PARALLEL SORTING ALGORITHMS - PERFORMANCE BENCHMARK");
         System.out.println("=".repeat(100));
         System.out.println();
 
         // Test sizes
         int[] sizes = {1000, 5000, 10000, 50000, 100000};
 
-        // Algorithms to test
-        String[] algorithms = {"QuickSort", "MergeSort", "BitonicSort"};
-
-        // Data types to test
-        String[] dataTypes = {"Random", "Sorted", "Reverse", "Nearly Sorted"};
-
         for (int size : sizes) {
             System.out.println("\n" + "─".repeat(100));
             System.out.println("Testing with array size: " + size);
             System.out.println("─".repeat(100));
 
-            for (String dataType : dataTypes) {
+            // Every distribution; QuickSort's O(n²) on "Few Unique" and "All Equal" stays around
+            // a second at these sizes
+            for (String dataType : ALL_DATA_TYPES) {
                 System.out.println("\n  Data Type: " + dataType);
                 System.out.println("  " + "─".repeat(95));
 
@@ -100,7 +217,7 @@ public class PerformanceTester {
                 int[] data = generateDataByType(dataType, size);
 
                 // Test each algorithm
-                for (String algorithm : algorithms) {
+                for (String algorithm : ALGORITHMS) {
                     try {
                         TestResult result = testAlgorithm(algorithm, data, dataType);
                         System.out.println("  " + result);
@@ -116,10 +233,332 @@ public class PerformanceTester {
         System.out.println("=".repeat(100));
     }
 
+    /**
+     * Compare selection, partial sort and parallel top-k against a full QuickSort
+     */
+    public static void runSelectionBenchmark() {
+        System.out.println("=".repeat(100));
+        System.out.println("SELECTION AND TOP-K vs FULL SORT");
+        System.out.println("=".repeat(100));
+
+        int[] sizes = {10000, 100000, 1000000};
+        String[] dataTypes = {"Random", "Duplicates"};
+
+        for (int size : sizes) {
+            int k = Math.max(1, size / 100);
+            System.out.println("\n" + "─".repeat(100));
+            System.out.println("Testing with array size: " + size + " (k = " + k + ", median rank = " + size / 2 + ")");
+            System.out.println("─".repeat(100));
+
+            for (String dataType : dataTypes) {
+                System.out.println("\n  Data Type: " + dataType);
+                System.out.println("  " + "─".repeat(95));
+
+                int[] data = generateDataByType(dataType, size);
+                int[] sorted = DataGenerator.copyArray(data);
+                MergeSort.sort(sorted);
+
+                TestResult full = testAlgorithm("QuickSort", data, dataType);
+                System.out.println("  " + full);
+
+                String[] operations = {"Select (median)", "PartialSort (k)", "ParallelTopK (k)"};
+                for (String operation : operations) {
+                    TestResult result = testSelection(operation, data, dataType, k, sorted);
+                    System.out.printf("  %s | Speedup: %.2fx%n", result,
+                            (double) full.executionTimeNanos / result.executionTimeNanos);
+                }
+            }
+        }
+
+        System.out.println("\n" + "=".repeat(100));
+        System.out.println("SELECTION BENCHMARK COMPLETE");
+        System.out.println("=".repeat(100));
+    }
+
+    /**
+     * Time one selection operation and check it against a fully sorted copy
+     */
+    private static TestResult testSelection(String operation, int[] data, String dataType, int k, int[] sorted) {
+        int[] testData = DataGenerator.copyArray(data);
+        boolean correct;
+        long startTime;
+        long endTime;
+
+        switch (operation) {
+            case "Select (median)": {
+                int rank = data.length / 2;
+                startTime = System.nanoTime();
+                int value = Selection.select(testData, rank);
+                endTime = System.nanoTime();
+                correct = value == sorted[rank];
+                break;
+            }
+            case "PartialSort (k)": {
+                startTime = System.nanoTime();
+                Selection.partialSort(testData, k);
+                endTime = System.nanoTime();
+                correct = java.util.Arrays.equals(testData, 0, k, sorted, 0, k);
+                break;
+            }
+            case "ParallelTopK (k)": {
+                startTime = System.nanoTime();
+                int[] smallest = parallel.TopK.smallest(testData, k);
+                endTime = System.nanoTime();
+                correct = java.util.Arrays.equals(smallest, 0, k, sorted, 0, k);
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+
+        return new TestResult(operation, data.length, dataType, endTime - startTime, correct);
+    }
+
+    /**
+     * Merge already-sorted runs with MergePath at increasing worker counts, against re-sorting
+     * their concatenation with Parallel MergeSort
+     */
+    public static void runMergeBenchmark() {
+        System.out.println("=".repeat(100));
+        System.out.println("MERGE-PATH MERGE vs RE-SORT");
+        System.out.println("=".repeat(100));
+
+        int[] sizes = {1000000, 4000000};
+        int[] runCounts = {2, 8};
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int size : sizes) {
+            System.out.println("\n" + "─".repeat(100));
+            System.out.println("Testing with array size: " + size);
+            System.out.println("─".repeat(100));
+
+            int[] data = generateDataByType("Random", size);
+            int[] sorted = DataGenerator.copyArray(data);
+            java.util.Arrays.sort(sorted);
+
+            for (int k : runCounts) {
+                System.out.println("\n  Sorted runs: " + k);
+                System.out.println("  " + "─".repeat(95));
+
+                int[][] runs = new int[k][];
+                for (int r = 0; r < k; r++) {
+                    runs[r] = java.util.Arrays.copyOfRange(data, (int) ((long) size * r / k),
+                            (int) ((long) size * (r + 1) / k));
+                    java.util.Arrays.sort(runs[r]);
+                }
+
+                int[] concatenated = new int[size];
+                for (int r = 0, at = 0; r < k; at += runs[r].length, r++) {
+                    System.arraycopy(runs[r], 0, concatenated, at, runs[r].length);
+                }
+                long startTime = System.nanoTime();
+                parallel.MergeSort.sort(concatenated);
+                long endTime = System.nanoTime();
+                TestResult resort = new TestResult("Re-sort (Parallel MergeSort)", size, k + " runs",
+                        endTime - startTime, java.util.Arrays.equals(concatenated, sorted));
+                System.out.println("  " + resort);
+
+                for (int workers = 1; workers <= cores; workers = workers < cores ? Math.min(2 * workers, cores) : cores + 1) {
+                    int[] out = new int[size];
+                    ForkJoinPool pool = new ForkJoinPool(workers);
+                    try {
+                        startTime = System.nanoTime();
+                        if (k == 2) {
+                            parallel.MergePath.merge(runs[0], runs[1], out, pool);
+                        } else {
+                            parallel.MergePath.mergeK(runs, out, pool);
+                        }
+                        endTime = System.nanoTime();
+                    } finally {
+                        pool.shutdown();
+                    }
+                    TestResult result = new TestResult("MergePath (" + workers + " workers)", size, k + " runs",
+                            endTime - startTime, java.util.Arrays.equals(out, sorted));
+                    System.out.printf("  %s | Speedup: %.2fx%n", result,
+                            (double) resort.executionTimeNanos / result.executionTimeNanos);
+                }
+            }
+        }
+
+        System.out.println("\n" + "=".repeat(100));
+        System.out.println("MERGE BENCHMARK COMPLETE");
+        System.out.println("=".repeat(100));
+    }
+
+    /**
+     * Time QuickSort, IntroSort and SortEngine on median-of-three killer inputs of doubling size
+     * SortEngine takes user-controlled input in SortService and SortWorker, so the strategy it
+     * picks for each input is printed alongside.
+     * QuickSort's time grows about 4x per doubling on the killer. The killer does not reach
+     * IntroSort's depth limit: its ninther pivot sidesteps the pattern, so IntroSort runs at or
+     * below its random-input cost (with -Dsorting.instrument=true each line reports the
+     * fallbacks taken). The heapsort fallback is therefore timed on its own, as IntroSort with a
+     * depth limit of 0; its time per n log2 n staying flat on both inputs is the bound that
+     * holds for whatever range reaches the limit.
+     */
+    public static void runAdversarialBenchmark() {
+        System.out.println("=".repeat(100));
+        System.out.println("ADVERSARIAL INPUT: QUICKSORT vs INTROSORT");
+        System.out.println("=".repeat(100));
+
+        int[] sizes = {10000, 20000, 40000, 80000};
+        String[] dataTypes = {"Median-of-3 Killer", "Random"};
+        String[] algorithms = {"QuickSort", "IntroSort", "SortEngine"};
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+
+        // Compile the sorts first, so the per-element figures compare steady-state code
+        int[] warmUp = DataGenerator.generateRandomArray(200000);
+        for (int i = 0; i < 5; i++) {
+            for (String algorithm : algorithms) {
+                runAlgorithm(algorithm, DataGenerator.copyArray(warmUp));
+            }
+            IntroSort.sort(DataGenerator.copyArray(warmUp), 0);
+        }
+
+        for (String dataType : dataTypes) {
+            System.out.println("\n" + "─".repeat(100));
+            System.out.println("Data Type: " + dataType);
+            System.out.println("─".repeat(100));
+
+            for (int size : sizes) {
+                int[] data = generateDataByType(dataType, size);
+                double nLogN = size * (Math.log(size) / Math.log(2));
+                System.out.println("  SortEngine strategy at size " + size + ": "
+                        + parallel.SortEngine.choose(data, parallelism));
+                for (String algorithm : algorithms) {
+                    TestResult result = testAlgorithm(algorithm, data, dataType);
+                    System.out.printf("  %s | %.2f ns per n log2 n%n", result,
+                            result.executionTimeNanos / nLogN);
+                }
+                TestResult fallback = testIntroSortFallback(data, dataType);
+                System.out.printf("  %s | %.2f ns per n log2 n%n", fallback,
+                        fallback.executionTimeNanos / nLogN);
+            }
+        }
+
+        System.out.println("\n" + "=".repeat(100));
+        System.out.println("ADVERSARIAL BENCHMARK COMPLETE");
+        System.out.println("=".repeat(100));
+    }
+
+    /**
+     * Time IntroSort with a depth limit of 0, so the heapsort fallback sorts the whole array
+     */
+    private static TestResult testIntroSortFallback(int[] data, String dataType) {
+        int[] testData = DataGenerator.copyArray(data);
+        long inputHash = SortVerifier.multisetHash(data);
+        if (SortStats.ENABLED) {
+            SortStats.resetAll();
+        }
+
+        long startTime = System.nanoTime();
+        IntroSort.sort(testData, 0);
+        long endTime = System.nanoTime();
+
+        TestResult result = new TestResult("IntroSort fallback", data.length, dataType, endTime - startTime,
+                SortVerifier.verify(testData, inputHash));
+        if (SortStats.ENABLED) {
+            result.stats = SortStats.total();
+        }
+        return result;
+    }
+
+    /**
+     * Sort a five-column table by (region, timestamp, id) as columns with ColumnarSort, against
+     * materializing one object per row and sorting those with a comparator
+     */
+    public static void runColumnarBenchmark() {
+        System.out.println("=".repeat(100));
+        System.out.println("COLUMNAR MULTI-KEY SORT vs ROW OBJECTS");
+        System.out.println("=".repeat(100));
+
+        int[] sizes = {1000000, 4000000};
+        for (int size : sizes) {
+            System.out.println("\n" + "─".repeat(100));
+            System.out.println("Testing with table size: " + size + " rows, keys (region, timestamp, id), 2 payload columns");
+            System.out.println("─".repeat(100));
+
+            java.util.SplittableRandom random = new java.util.SplittableRandom(DataGenerator.getSeed());
+            int[] region = new int[size];
+            long[] timestamp = new long[size];
+            int[] id = new int[size];
+            int[] quantity = new int[size];
+            long[] price = new long[size];
+            for (int i = 0; i < size; i++) {
+                region[i] = random.nextInt(50);
+                timestamp[i] = 1_700_000_000_000L + random.nextInt(86_400_000);
+                id[i] = random.nextInt();
+                quantity[i] = random.nextInt(1000);
+                price[i] = random.nextLong();
+            }
+
+            // Row objects, as the table would be sorted without a columnar API
+            long startTime = System.nanoTime();
+            Row[] rows = new Row[size];
+            for (int i = 0; i < size; i++) {
+                rows[i] = new Row(region[i], timestamp[i], id[i], quantity[i], price[i]);
+            }
+            java.util.Arrays.parallelSort(rows, java.util.Comparator.<Row>comparingInt(row -> row.region)
+                    .thenComparingLong(row -> row.timestamp).thenComparingInt(row -> row.id));
+            int[] expectedQuantity = new int[size];
+            long[] expectedPrice = new long[size];
+            for (int i = 0; i < size; i++) {
+                expectedQuantity[i] = rows[i].quantity;
+                expectedPrice[i] = rows[i].price;
+            }
+            long endTime = System.nanoTime();
+            rows = null;
+            TestResult objects = new TestResult("Row objects + Comparator", size, "Table", endTime - startTime, true);
+            System.out.println("  " + objects);
+
+            startTime = System.nanoTime();
+            parallel.ColumnarSort.sort(new parallel.ColumnarSort.Key[]{parallel.ColumnarSort.Key.of(region),
+                            parallel.ColumnarSort.Key.of(timestamp), parallel.ColumnarSort.Key.of(id)},
+                    new int[][]{quantity}, new long[][]{price});
+            endTime = System.nanoTime();
+            boolean correct = java.util.Arrays.equals(quantity, expectedQuantity)
+                    && java.util.Arrays.equals(price, expectedPrice);
+            TestResult columnar = new TestResult("ColumnarSort", size, "Table", endTime - startTime, correct);
+            System.out.printf("  %s | Speedup: %.2fx%n", columnar,
+                    (double) objects.executionTimeNanos / columnar.executionTimeNanos);
+        }
+
+        System.out.println("\n" + "=".repeat(100));
+        System.out.println("COLUMNAR BENCHMARK COMPLETE");
+        System.out.println("=".repeat(100));
+    }
+
+    /**
+     * One table row, for the row-object baseline of runColumnarBenchmark
+     */
+    private static class Row {
+        final int region;
+        final long timestamp;
+        final int id;
+        final int quantity;
+        final long price;
+
+        Row(int region, long timestamp, int id, int quantity, long price) {
+            this.region = region;
+            this.timestamp = timestamp;
+            this.id = id;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+
+    /**
+     * Every data type understood by generateDataByType
+     */
+    public static final String[] ALL_DATA_TYPES = {"Random", "Sorted", "Reverse", "Nearly Sorted", "Duplicates",
+            "Zipf", "Gaussian", "Sawtooth", "Organ Pipe", "Few Unique", "All Equal", "Sorted Random Tail"};
+
     /**
      * Generate data based on type
+     * QuickSort degrades to O(n²) on "Few Unique" and "All Equal"; keep sizes small for it there
+     * "Median-of-3 Killer" is quadratic to generate and is kept out of ALL_DATA_TYPES
      */
-    private static int[] generateDataByType(String dataType, int size) {
+    public static int[] generateDataByType(String dataType, int size) {
         switch (dataType) {
             case "Random":
                 return DataGenerator.generateRandomArray(size);
@@ -129,6 +568,24 @@ public class PerformanceTester {
                 return DataGenerator.generateReverseSortedArray(size);
             case "Nearly Sorted":
                 return DataGenerator.generateNearlySortedArray(size);
+            case "Duplicates":
+                return DataGenerator.generateArrayWithDuplicates(size);
+            case "Zipf":
+                return DataGenerator.generateZipfArray(size);
+            case "Gaussian":
+                return DataGenerator.generateGaussianArray(size);
+            case "Sawtooth":
+                return DataGenerator.generateSawtoothArray(size);
+            case "Organ Pipe":
+                return DataGenerator.generateOrganPipeArray(size);
+            case "Few Unique":
+                return DataGenerator.generateFewUniqueArray(size);
+            case "All Equal":
+                return DataGenerator.generateAllEqualArray(size);
+            case "Sorted Random Tail":
+                return DataGenerator.generateSortedWithRandomTailArray(size);
+            case "Median-of-3 Killer":
+                return DataGenerator.generateMedianOfThreeKillerArray(size);
             default:
                 return DataGenerator.generateRandomArray(size);
         }
@@ -149,11 +606,9 @@ public class PerformanceTester {
         System.out.println("Original data (first 10 elements):");
         DataGenerator.printArray(testData, 10);
 
-        String[] algorithms = {"QuickSort", "MergeSort", "BitonicSort"};
-
         System.out.println("\nRunning tests...\n");
 
-        for (String algorithm : algorithms) {
+        for (String algorithm : ALGORITHMS) {
             TestResult result = testAlgorithm(algorithm, testData, "Random");
             System.out.println(result);
         }
@@ -0,0 +1,270 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Strong and weak scaling benchmark for the parallel algorithms
+ * Strong scaling keeps n fixed while the worker count p doubles; weak scaling grows n as
+ * baseSize * p. Every point is compared with a sequential baseline sorting the same input:
+ * speedup = T_sequential / T_parallel and efficiency = speedup / p. Each time is the median of
+ * several repetitions after warmup, and the input is copied outside the timed region.
+ *
+ * Usage: ScalingBenchmark [--mode strong|weak|both] [--algorithms a,b] [--types t,u]
+ *                         [--size n] [--base-size n] [--workers 1,2,4] [--warmup i]
+ *                         [--repetitions i] [--format csv|json] [--output file]
+ */
+public class ScalingBenchmark {
+
+    /**
+     * Sequential class each parallel algorithm is measured against; the algorithms benchmarked
+     * by default are the ones listed here
+     */
+    private static final Map<String, String> BASELINES = new HashMap<>();
+
+    static {
+        BASELINES.put("ParallelMergeSort", "MergeSort");
+        BASELINES.put("ParallelQuickSort", "QuickSort");
+        BASELINES.put("ParallelBitonicSort", "BitonicSort");
+        BASELINES.put("ParallelRadixSort", "MergeSort");
+        BASELINES.put("ParallelSampleSort", "MergeSort");
+        BASELINES.put("SortEngine", "MergeSort");
+        BASELINES.put("NaturalMergeSort", "MergeSort");
+    }
+
+    /**
+     * Benchmark settings
+     */
+    public static class Options extends BenchmarkReport.Options {
+        public String mode = "both";
+        public String[] algorithms = Arrays.stream(PerformanceTester.ALGORITHMS)
+                .filter(BASELINES::containsKey).toArray(String[]::new);
+        public String[] dataTypes = {"Random", "Sorted", "Reverse", "Nearly Sorted", "Duplicates"};
+        public int strongSize = 4_000_000;
+        public int weakBaseSize = 1_000_000;
+        public int[] workers = defaultWorkers();
+        public int warmup = 3;
+        public int repetitions = 5;
+    }
+
+    /**
+     * One (algorithm, data type, size, worker count) measurement
+     */
+    public static class Result implements BenchmarkReport.Row {
+        public final String mode;
+        public final String algorithmName;
+        public final String baselineName;
+        public final String dataType;
+        public final int dataSize;
+        public final int workers;
+        public final double timeMs;
+        public final double baselineMs;
+        public final double speedup;
+        public final double efficiency;
+
+        Result(String mode, String algorithmName, String baselineName, String dataType, int dataSize,
+               int workers, double timeMs, double baselineMs) {
+            this.mode = mode;
+            this.algorithmName = algorithmName;
+            this.baselineName = baselineName;
+            this.dataType = dataType;
+            this.dataSize = dataSize;
+            this.workers = workers;
+            this.timeMs = timeMs;
+            this.baselineMs = baselineMs;
+            this.speedup = baselineMs / timeMs;
+            this.efficiency = speedup / workers;
+        }
+
+        static String csvHeader() {
+            return "mode,algorithm,baseline,dataType,size,workers,timeMs,baselineMs,speedup,efficiency";
+        }
+
+        @Override
+        public String toCsv() {
+            return String.format("%s,%s,%s,%s,%d,%d,%.6f,%.6f,%.4f,%.4f", mode, algorithmName,
+                    baselineName, dataType, dataSize, workers, timeMs, baselineMs, speedup, efficiency);
+        }
+
+        @Override
+        public String toJson() {
+            return String.format("{\"mode\": \"%s\", \"algorithm\": \"%s\", \"baseline\": \"%s\", "
+                            + "\"dataType\": \"%s\", \"size\": %d, \"workers\": %d, \"timeMs\": %.6f, "
+                            + "\"baselineMs\": %.6f, \"speedup\": %.4f, \"efficiency\": %.4f}",
+                    mode, algorithmName, baselineName, dataType, dataSize, workers, timeMs, baselineMs,
+                    speedup, efficiency);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-6s | %-20s | Type: %-13s | Size: %-9d | p=%-3d | %10.3f ms | vs %-11s"
+                            + " %10.3f ms | Speedup: %6.2fx | Efficiency: %5.1f%%",
+                    mode, algorithmName, dataType, dataSize, workers, timeMs, baselineName, baselineMs,
+                    speedup, efficiency * 100);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = parseOptions(args);
+        List<Result> results = run(options);
+
+        BenchmarkReport.write(BenchmarkReport.format(results, Result.csvHeader(), options.format), options);
+    }
+
+    /**
+     * 1, 2, 4 ... up to the number of available processors, which is always included
+     */
+    static int[] defaultWorkers() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int p = 1; p < processors; p <<= 1) {
+            counts.add(p);
+        }
+        counts.add(processors);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Run the requested scaling sweeps and collect every point
+     */
+    public static List<Result> run(Options options) {
+        boolean strong = options.mode.equals("strong") || options.mode.equals("both");
+        boolean weak = options.mode.equals("weak") || options.mode.equals("both");
+        if (!strong && !weak) {
+            throw new IllegalArgumentException("Unknown mode: " + options.mode);
+        }
+
+        System.out.println("=".repeat(100));
+        System.out.println("SCALING BENCHMARK - workers " + Arrays.toString(options.workers) + ", "
+                + options.warmup + " warmup + " + options.repetitions + " timed repetitions (median)");
+        System.out.println("=".repeat(100));
+
+        List<Result> results = new ArrayList<>();
+        for (String dataType : options.dataTypes) {
+            if (strong) {
+                System.out.println("\n  Strong scaling, n = " + options.strongSize + ", Data Type: " + dataType);
+                System.out.println("  " + "─".repeat(95));
+                int[] data = PerformanceTester.generateDataByType(dataType, options.strongSize);
+                Map<String, Double> baselines = new HashMap<>();
+                for (int workers : options.workers) {
+                    results.addAll(measurePoint(options, "strong", dataType, data, workers, baselines));
+                }
+            }
+
+            if (weak) {
+                System.out.println("\n  Weak scaling, n = " + options.weakBaseSize + " * p, Data Type: " + dataType);
+                System.out.println("  " + "─".repeat(95));
+                for (int workers : options.workers) {
+                    int[] data = PerformanceTester.generateDataByType(dataType,
+                            Math.toIntExact((long) options.weakBaseSize * workers));
+                    results.addAll(measurePoint(options, "weak", dataType, data, workers, new HashMap<>()));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Time every algorithm on data with the given worker count
+     * Baseline times are cached per input, so strong scaling measures each baseline once
+     */
+    private static List<Result> measurePoint(Options options, String mode, String dataType, int[] data,
+                                             int workers, Map<String, Double> baselines) {
+        List<Result> results = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            for (String algorithm : options.algorithms) {
+                String baseline = BASELINES.getOrDefault(algorithm, "MergeSort");
+                double baselineMs = baselines.computeIfAbsent(baseline,
+                        name -> medianMillis(name, data, null, options));
+                double timeMs = medianMillis(algorithm, data, pool, options);
+
+                Result result = new Result(mode, algorithm, baseline, dataType, data.length, workers,
+                        timeMs, baselineMs);
+                System.out.println("  " + result);
+                results.add(result);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+
+    /**
+     * Median wall time of repeated sorts of a fresh copy of data, after warmup
+     * A null pool runs the algorithm's default (sequential classes ignore it anyway)
+     */
+    private static double medianMillis(String algorithm, int[] data, ForkJoinPool pool, Options options) {
+        int[] work = new int[data.length];
+        double[] times = new double[options.repetitions];
+
+        for (int i = -options.warmup; i < options.repetitions; i++) {
+            System.arraycopy(data, 0, work, 0, data.length);
+
+            long start = System.nanoTime();
+            if (pool == null) {
+                PerformanceTester.runAlgorithm(algorithm, work);
+            } else {
+                PerformanceTester.runAlgorithm(algorithm, work, pool);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (i >= 0) {
+                times[i] = elapsed / 1_000_000.0;
+            }
+        }
+
+        if (!SortVerifier.verify(work, SortVerifier.multisetHash(data))) {
+            throw new IllegalStateException(algorithm + " produced incorrect output");
+        }
+        Arrays.sort(times);
+        return times[times.length / 2];
+    }
+
+    /**
+     * Parse command line flags into options
+     */
+    public static Options parseOptions(String[] args) {
+        Options options = new Options();
+        BenchmarkReport.parse(args, options, (flag, value) -> {
+            switch (flag) {
+                case "--mode":
+                    options.mode = value;
+                    return true;
+                case "--algorithms":
+                    options.algorithms = value.split(",");
+                    return true;
+                case "--types":
+                    options.dataTypes = value.split(",");
+                    return true;
+                case "--size":
+                    options.strongSize = Integer.parseInt(value);
+                    return true;
+                case "--base-size":
+                    options.weakBaseSize = Integer.parseInt(value);
+                    return true;
+                case "--workers":
+                    options.workers = BenchmarkReport.ints(value);
+                    return true;
+                case "--warmup":
+                    options.warmup = Integer.parseInt(value);
+                    return true;
+                case "--repetitions":
+                    options.repetitions = Integer.parseInt(value);
+                    return true;
+                default:
+                    return false;
+            }
+        });
+        if (options.repetitions < 1 || options.warmup < 0
+                || Arrays.stream(options.workers).anyMatch(p -> p < 1)) {
+            throw new IllegalArgumentException("Repetitions and worker counts must be positive");
+        }
+        return options;
+    }
+}
\ No newline at end of file
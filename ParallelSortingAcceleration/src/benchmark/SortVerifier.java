@@ -0,0 +1,73 @@
+package benchmark;
+
+import java.util.stream.IntStream;
+
+/**
+ * Parallel verification of sort output
+ * Sortedness is checked in parallel chunks, each also comparing its last element with the
+ * first element of the next chunk. Permutation is checked with an order-independent multiset
+ * hash: the wrapping sum of a 64-bit mix of every element, so dropped, duplicated or altered
+ * elements change the hash with overwhelming probability while reordering never does.
+ * Time Complexity: O(n / p) span per check
+ */
+public class SortVerifier {
+
+    /**
+     * Elements per parallel chunk
+     */
+    private static final int CHUNK = 1 << 16;
+
+    /**
+     * Whether arr is in non-decreasing order
+     */
+    public static boolean isSorted(int[] arr) {
+        int n = arr.length;
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        return IntStream.range(0, chunks).parallel().allMatch(c -> {
+            int from = c * CHUNK;
+            // Stop one short of the array end, but run into the next chunk to check the boundary
+            int last = (int) Math.min(n - 1L, (c + 1L) * CHUNK);
+            for (int i = from; i < last; i++) {
+                if (arr[i] > arr[i + 1]) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Order-independent hash of the multiset of values in arr
+     */
+    public static long multisetHash(int[] arr) {
+        int n = arr.length;
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        long sum = IntStream.range(0, chunks).parallel().mapToLong(c -> {
+            int to = (int) Math.min(n, (c + 1L) * CHUNK);
+            long partial = 0;
+            for (int i = c * CHUNK; i < to; i++) {
+                partial += mix(arr[i]);
+            }
+            return partial;
+        }).sum();
+        // Fold in the length so that adding values whose mixes cancel out is still caught
+        return sum ^ mix(n);
+    }
+
+    /**
+     * Whether sorted is in order and holds the same multiset as the input whose hash is given
+     */
+    public static boolean verify(int[] sorted, long inputHash) {
+        return multisetHash(sorted) == inputHash && isSorted(sorted);
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads every input bit over the whole 64-bit result
+     */
+    private static long mix(long x) {
+        x += 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,362 @@
+package distributed;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-process sample sort: a coordinator and N worker JVMs on one machine, over loopback TCP
+ * 1. The coordinator launches the workers (SortWorker) and streams each its contiguous share
+ *    of the input file with transferTo
+ * 2. Each worker sorts its share locally and returns regular samples; the coordinator sorts
+ *    them and broadcasts N - 1 global splitters
+ * 3. The workers exchange partitions all-to-all, file to socket to file
+ * 4. Worker j merges what it received and streams it back; the coordinator writes it into the
+ *    output at the sum of the lengths of workers 0..j-1, so the output is sorted
+ * Time Complexity: O(n / N log n) per worker plus O(n) bytes over loopback
+ * Space Complexity: about 3n / N heap per worker, O(N^2) in the coordinator; n temporary disk
+ * Files hold 4-byte ints in native byte order, the same format as ExternalSort.
+ * Only the addresses tie this to one machine; the protocol itself is plain TCP.
+ * A worker that exits with an error aborts the job: the coordinator closes every connection, so
+ * no step waits on a peer that will never answer, and the surviving workers are killed.
+ */
+public class DistributedSort {
+
+    /**
+     * Default number of worker processes
+     */
+    public static final int DEFAULT_WORKERS = 4;
+
+    /**
+     * How long to wait for the workers to connect, and then to exit
+     */
+    private static final int STARTUP_TIMEOUT_MS = 60_000;
+
+    /**
+     * How long a failed job waits for a worker's exit status to name the cause
+     */
+    private static final int EXIT_GRACE_MS = 1_000;
+
+    /**
+     * Sort input into output with the default worker count, spilling to tempDir
+     */
+    public static void sort(Path input, Path output, Path tempDir) throws IOException {
+        sort(input, output, tempDir, DEFAULT_WORKERS, null);
+    }
+
+    /**
+     * Sort input into output
+     * @param workers number of worker JVMs to launch
+     * @param workerHeap -Xmx for each worker, e.g. "2g", or null for the JVM default
+     */
+    public static void sort(Path input, Path output, Path tempDir, int workers, String workerHeap)
+            throws IOException {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Need at least one worker: " + workers);
+        }
+        long bytes = Files.size(input);
+        if (bytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Input size is not a multiple of 4 bytes: " + bytes);
+        }
+        long n = bytes / Integer.BYTES;
+        if ((n + workers - 1) / workers > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Share per worker exceeds an int array; use more workers");
+        }
+
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        List<Process> processes = new ArrayList<>();
+        SocketChannel[] channels = new SocketChannel[workers];
+        Abort abort = new Abort();
+        ExecutorService io = Executors.newFixedThreadPool(workers, task -> {
+            Thread thread = new Thread(task, "distributed-sort-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress(loopback, 0), workers);
+             FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            int port = ((InetSocketAddress) server.getLocalAddress()).getPort();
+            abort.watch(server);
+            for (int rank = 0; rank < workers; rank++) {
+                Process process = launch(port, rank, tempDir, workerHeap);
+                processes.add(process);
+                int r = rank;
+                process.onExit().thenAccept(exited -> {
+                    if (exited.exitValue() != 0) {
+                        abort.fail("Worker " + r + " exited with status " + exited.exitValue());
+                    }
+                });
+            }
+
+            // Workers connect in any order and introduce themselves
+            int[] peerPorts = new int[workers];
+            server.socket().setSoTimeout(STARTUP_TIMEOUT_MS);
+            for (int i = 0; i < workers; i++) {
+                SocketChannel channel = server.socket().accept().getChannel();
+                abort.watch(channel);
+                ByteBuffer hello = Transfer.read(channel, 2 * Integer.BYTES);
+                int rank = hello.getInt();
+                channels[rank] = channel;
+                peerPorts[rank] = hello.getInt();
+            }
+
+            // Shares: contiguous ranges of the input, sent in parallel
+            forEachWorker(io, workers, rank -> {
+                long from = n * rank / workers;
+                long to = n * (rank + 1) / workers;
+                Transfer.writeInts(channels[rank], peerPorts);
+                ByteBuffer count = ByteBuffer.allocate(Integer.BYTES).order(Transfer.ORDER);
+                Transfer.write(channels[rank], count.putInt((int) (to - from)));
+                Transfer.send(in, from * Integer.BYTES, (to - from) * Integer.BYTES, channels[rank]);
+            });
+
+            List<int[]> samples = new ArrayList<>();
+            for (SocketChannel channel : channels) {
+                samples.add(Transfer.readInts(channel));
+            }
+            int[] splitters = chooseSplitters(samples, workers);
+            for (SocketChannel channel : channels) {
+                Transfer.writeInts(channel, splitters);
+            }
+
+            // Results land at the prefix sums of the result lengths
+            long[] offsets = new long[workers + 1];
+            for (int rank = 0; rank < workers; rank++) {
+                offsets[rank + 1] = offsets[rank] + Transfer.read(channels[rank], Integer.BYTES).getInt();
+            }
+            if (offsets[workers] != n) {
+                throw new IllegalStateException("Workers returned " + offsets[workers] + " of " + n + " values");
+            }
+            if (n > 0) {
+                // transferFrom writes nothing past the end of the file, so size it up front
+                out.write(ByteBuffer.allocate(1), bytes - 1);
+            }
+            forEachWorker(io, workers, rank -> Transfer.receive(channels[rank], out,
+                    offsets[rank] * Integer.BYTES, (offsets[rank + 1] - offsets[rank]) * Integer.BYTES));
+
+            for (Process process : processes) {
+                awaitExit(process);
+            }
+        } catch (IOException e) {
+            // A dead worker surfaces here as a closed channel; report the worker instead
+            abort.rethrow(e);
+            throw e;
+        } finally {
+            io.shutdownNow();
+            for (SocketChannel channel : channels) {
+                if (channel != null) {
+                    channel.close();
+                }
+            }
+            for (Process process : processes) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Sort an in-memory array through worker processes, staging it in temporary files
+     */
+    public static int[] sort(int[] data, int workers) throws IOException {
+        Path tempDir = Files.createTempDirectory("distributed-sort");
+        Path input = tempDir.resolve("input.bin");
+        Path output = tempDir.resolve("output.bin");
+        try {
+            Transfer.store(input, data, 0, data.length);
+            sort(input, output, tempDir, workers, null);
+            return Transfer.load(output, 0, data.length);
+        } finally {
+            // A worker that was killed leaves its share and spill files behind
+            try (java.util.stream.Stream<Path> files = Files.walk(tempDir)) {
+                for (Path file : (Iterable<Path>) files.sorted(java.util.Comparator.reverseOrder())::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Start one worker JVM with this JVM's class path
+     */
+    private static Process launch(int port, int rank, Path tempDir, String workerHeap) throws IOException {
+        String javaBin = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>();
+        command.add(javaBin);
+        if (workerHeap != null) {
+            command.add("-Xmx" + workerHeap);
+        }
+        command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), SortWorker.class.getName(),
+                String.valueOf(port), String.valueOf(rank), tempDir.toAbsolutePath().toString()));
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        return builder.start();
+    }
+
+    /**
+     * Wait for a worker to exit cleanly
+     */
+    private static void awaitExit(Process process) throws IOException {
+        try {
+            if (!process.waitFor(STARTUP_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                throw new IOException("Worker did not exit");
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("Worker exited with status " + process.exitValue());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a worker", e);
+        }
+    }
+
+    /**
+     * workers - 1 evenly spaced keys of the sorted union of the samples
+     * Repeated splitters are kept; the workers spread keys equal to them over several ranks.
+     */
+    static int[] chooseSplitters(List<int[]> samples, int workers) {
+        int total = 0;
+        for (int[] sample : samples) {
+            total += sample.length;
+        }
+        int[] all = new int[total];
+        int at = 0;
+        for (int[] sample : samples) {
+            System.arraycopy(sample, 0, all, at, sample.length);
+            at += sample.length;
+        }
+        sequential.MergeSort.sort(all);
+
+        int[] splitters = new int[workers - 1];
+        for (int i = 1; i < workers; i++) {
+            splitters[i - 1] = total == 0 ? 0 : all[(int) ((long) total * i / workers)];
+        }
+        return splitters;
+    }
+
+    /**
+     * Closes every connection of the job when a worker fails, so blocked reads and accepts end
+     * instead of waiting for a process that is gone
+     */
+    private static class Abort {
+        private final List<Closeable> resources = new ArrayList<>();
+        private String reason;
+
+        /**
+         * Close the resource on abort, or at once if the job has already failed
+         */
+        synchronized void watch(Closeable resource) throws IOException {
+            if (reason != null) {
+                resource.close();
+                throw new IOException(reason);
+            }
+            resources.add(resource);
+        }
+
+        /**
+         * Record the first failure and close everything watched
+         */
+        synchronized void fail(String reason) {
+            if (this.reason != null) {
+                return;
+            }
+            this.reason = reason;
+            notifyAll();
+            for (Closeable resource : resources) {
+                try {
+                    resource.close();
+                } catch (IOException e) {
+                    // Closing only to wake up blocked callers
+                }
+            }
+        }
+
+        /**
+         * Replace an I/O failure caused by a dead worker with one naming the worker
+         * Its connection can close before its exit status is known, so wait briefly for that.
+         */
+        synchronized void rethrow(IOException cause) throws IOException {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(EXIT_GRACE_MS);
+            try {
+                for (long left; reason == null && (left = deadline - System.nanoTime()) > 0; ) {
+                    TimeUnit.NANOSECONDS.timedWait(this, left);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (reason != null) {
+                throw new IOException(reason, cause);
+            }
+        }
+    }
+
+    /**
+     * Per-worker step of the protocol
+     */
+    private interface WorkerStep {
+        void run(int rank) throws IOException;
+    }
+
+    /**
+     * Run a step for every worker in parallel, rethrowing the first failure
+     */
+    private static void forEachWorker(ExecutorService io, int workers, WorkerStep step) throws IOException {
+        List<Future<?>> steps = new ArrayList<>();
+        for (int rank = 0; rank < workers; rank++) {
+            int r = rank;
+            steps.add(io.submit(() -> {
+                step.run(r);
+                return null;
+            }));
+        }
+        for (Future<?> future : steps) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while talking to the workers", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IllegalStateException("Worker step failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Sort a binary int file: <input> <output> [workers] [tempDir] [workerHeap]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: DistributedSort <input> <output> [workers] [tempDir] [workerHeap]");
+        }
+        Path output = Paths.get(args[1]);
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_WORKERS;
+        Path tempDir = args.length > 3 ? Paths.get(args[3]) : output.toAbsolutePath().getParent();
+        String workerHeap = args.length > 4 ? args[4] : null;
+
+        long start = System.nanoTime();
+        sort(Paths.get(args[0]), output, tempDir, workers, workerHeap);
+        System.out.printf("Sorted %s with %d workers in %.3f s%n", args[0], workers,
+                (System.nanoTime() - start) / 1e9);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,299 @@
+package distributed;
+
+import parallel.MergePath;
+import parallel.SortEngine;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * One worker process of DistributedSort
+ * 1. Connects to the coordinator and reports the port it accepts peer connections on
+ * 2. Receives its share of the input straight into a file, then sorts it with SortEngine
+ * 3. Sends regular samples and receives the global splitters
+ * 4. Spills the sorted share to a file and exchanges partitions with every peer: partition j is
+ *    sent to worker j with transferTo while the partitions for this worker arrive in parallel
+ * 5. Merges its own partition with the received ones using MergePath and streams the result
+ *    back to the coordinator
+ * Usage: SortWorker <coordinatorPort> <rank> <tempDir>
+ */
+public class SortWorker {
+
+    /**
+     * Regular samples sent per worker, per worker in the job
+     */
+    static final int OVERSAMPLING = 64;
+
+    /**
+     * How long to wait for every peer to connect during the exchange
+     * A backstop for a peer that died before connecting: the coordinator normally aborts the job
+     * first, but an orphaned worker must not wait forever.
+     */
+    private static final int PEER_TIMEOUT_MS = 5 * 60_000;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: SortWorker <coordinatorPort> <rank> <tempDir>");
+        }
+        run(Integer.parseInt(args[0]), Integer.parseInt(args[1]), Paths.get(args[2]));
+    }
+
+    /**
+     * Serve one sort job for the coordinator on the given loopback port
+     */
+    static void run(int coordinatorPort, int rank, Path tempDir) throws IOException {
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        try (ServerSocketChannel peers = ServerSocketChannel.open().bind(new InetSocketAddress(loopback, 0));
+             SocketChannel coordinator = SocketChannel.open(new InetSocketAddress(loopback, coordinatorPort))) {
+            ByteBuffer hello = ByteBuffer.allocate(2 * Integer.BYTES).order(Transfer.ORDER);
+            hello.putInt(rank).putInt(((InetSocketAddress) peers.getLocalAddress()).getPort());
+            Transfer.write(coordinator, hello);
+
+            int[] ports = Transfer.readInts(coordinator);
+            int shareInts = Transfer.read(coordinator, Integer.BYTES).getInt();
+            int[] data = receiveShare(coordinator, shareInts, tempDir, rank);
+
+            SortEngine.sort(data);
+
+            Transfer.writeInts(coordinator, samples(data, OVERSAMPLING * ports.length));
+            int[] splitters = Transfer.readInts(coordinator);
+            int[] bounds = bounds(data, splitters);
+
+            int[][] runs = exchange(rank, ports, peers, data, bounds, tempDir);
+            int total = 0;
+            for (int[] run : runs) {
+                total += run.length;
+            }
+            int[] result = new int[total];
+            MergePath.mergeK(runs, result);
+
+            ByteBuffer count = ByteBuffer.allocate(Integer.BYTES).order(Transfer.ORDER);
+            Transfer.write(coordinator, count.putInt(total));
+            Path resultFile = Files.createTempFile(tempDir, "result-" + rank + "-", ".bin");
+            try {
+                Transfer.store(resultFile, result, 0, total);
+                try (FileChannel file = FileChannel.open(resultFile, StandardOpenOption.READ)) {
+                    Transfer.send(file, 0, (long) total * Integer.BYTES, coordinator);
+                }
+            } finally {
+                Files.deleteIfExists(resultFile);
+            }
+        }
+    }
+
+    /**
+     * Receive this worker's input share into a temporary file and load it
+     */
+    private static int[] receiveShare(SocketChannel coordinator, int shareInts, Path tempDir, int rank)
+            throws IOException {
+        Path shareFile = Files.createTempFile(tempDir, "share-" + rank + "-", ".bin");
+        try {
+            try (FileChannel file = FileChannel.open(shareFile, StandardOpenOption.WRITE)) {
+                Transfer.receive(coordinator, file, 0, (long) shareInts * Integer.BYTES);
+            }
+            return Transfer.load(shareFile, 0, shareInts);
+        } finally {
+            Files.deleteIfExists(shareFile);
+        }
+    }
+
+    /**
+     * count evenly spaced keys of the sorted share
+     */
+    static int[] samples(int[] sorted, int count) {
+        count = Math.min(count, sorted.length);
+        int[] samples = new int[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = sorted[(int) ((2L * i + 1) * sorted.length / (2L * count))];
+        }
+        return samples;
+    }
+
+    /**
+     * Partition bounds of the sorted share: worker j receives sorted[bounds[j]..bounds[j+1])
+     * Keys equal to a splitter may go to any worker whose range touches that value, so they are
+     * spread evenly over them instead of piling up on one worker; a run of r equal splitters
+     * shares its key among r + 1 workers.
+     */
+    static int[] bounds(int[] sorted, int[] splitters) {
+        int workers = splitters.length + 1;
+        int[] bounds = new int[workers + 1];
+        bounds[workers] = sorted.length;
+
+        int first = 0;
+        for (int s = 0; s < splitters.length; s++) {
+            if (s > 0 && splitters[s] != splitters[s - 1]) {
+                first = s;
+            }
+            int last = s;
+            while (last + 1 < splitters.length && splitters[last + 1] == splitters[s]) {
+                last++;
+            }
+            int lo = lowerBound(sorted, splitters[s]);
+            int hi = upperBound(sorted, splitters[s]);
+            int share = s - first + 1;
+            int shares = last - first + 2;
+            bounds[s + 1] = lo + (int) ((long) (hi - lo) * share / shares);
+        }
+        return bounds;
+    }
+
+    /**
+     * Send partition j to every peer j and collect the partitions sent to this worker
+     * Senders start with the next rank, so the workers do not all hit the same peer at once.
+     */
+    private static int[][] exchange(int rank, int[] ports, ServerSocketChannel peers, int[] data, int[] bounds,
+                                    Path tempDir) throws IOException {
+        int workers = ports.length;
+        int[][] runs = new int[workers][];
+        runs[rank] = Arrays.copyOfRange(data, bounds[rank], bounds[rank + 1]);
+        if (workers == 1) {
+            return runs;
+        }
+
+        Path spill = Files.createTempFile(tempDir, "spill-" + rank + "-", ".bin");
+        ExecutorService io = Executors.newFixedThreadPool(2 * (workers - 1), task -> {
+            Thread thread = new Thread(task, "sort-worker-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Transfer.store(spill, data, 0, data.length);
+            try (FileChannel spillChannel = FileChannel.open(spill, StandardOpenOption.READ)) {
+                exchangeAll(rank, ports, peers, spillChannel, bounds, runs, tempDir, io);
+            }
+        } finally {
+            io.shutdownNow();
+            Files.deleteIfExists(spill);
+        }
+        return runs;
+    }
+
+    /**
+     * Start a sender per peer, accept a connection from every peer, and wait for all of them
+     */
+    private static void exchangeAll(int rank, int[] ports, ServerSocketChannel peers, FileChannel spillChannel,
+                                    int[] bounds, int[][] runs, Path tempDir, ExecutorService io) throws IOException {
+        int workers = ports.length;
+        List<Future<?>> transfers = new ArrayList<>();
+        for (int offset = 1; offset < workers; offset++) {
+            int peer = (rank + offset) % workers;
+            transfers.add(io.submit(() -> {
+                sendPartition(rank, ports[peer], spillChannel, bounds[peer], bounds[peer + 1] - bounds[peer]);
+                return null;
+            }));
+        }
+        peers.socket().setSoTimeout(PEER_TIMEOUT_MS);
+        for (int i = 1; i < workers; i++) {
+            // The socket adaptor honours the timeout; a plain channel accept would block forever
+            SocketChannel from = peers.socket().accept().getChannel();
+            transfers.add(io.submit(() -> {
+                receivePartition(from, runs, tempDir, rank);
+                return null;
+            }));
+        }
+        await(transfers);
+    }
+
+    /**
+     * Header (sender rank, int count) followed by the partition, straight from the spill file
+     */
+    private static void sendPartition(int rank, int port, FileChannel spill, int from, int count) throws IOException {
+        try (SocketChannel peer = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+            ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES).order(Transfer.ORDER);
+            Transfer.write(peer, header.putInt(rank).putInt(count));
+            Transfer.send(spill, (long) from * Integer.BYTES, (long) count * Integer.BYTES, peer);
+        }
+    }
+
+    /**
+     * Receive one peer's partition into a temporary file and load it into runs[sender]
+     */
+    private static void receivePartition(SocketChannel from, int[][] runs, Path tempDir, int rank) throws IOException {
+        try (SocketChannel peer = from) {
+            ByteBuffer header = Transfer.read(peer, 2 * Integer.BYTES);
+            int sender = header.getInt();
+            int count = header.getInt();
+            Path file = Files.createTempFile(tempDir, "recv-" + rank + "-" + sender + "-", ".bin");
+            try {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    Transfer.receive(peer, channel, 0, (long) count * Integer.BYTES);
+                }
+                int[] run = Transfer.load(file, 0, count);
+                // Published to the merging thread by the Future it waits on
+                runs[sender] = run;
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Wait for every transfer, rethrowing the first failure
+     */
+    private static void await(List<Future<?>> transfers) throws IOException {
+        for (Future<?> transfer : transfers) {
+            try {
+                transfer.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted during the exchange", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IllegalStateException("Partition exchange failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Number of keys below v
+     */
+    private static int lowerBound(int[] sorted, int v) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < v) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Number of keys at most v
+     */
+    private static int upperBound(int[] sorted, int v) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= v) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package distributed;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Wire helpers shared by the coordinator and the workers
+ * Bulk data moves file-to-socket and socket-to-file with FileChannel.transferTo/transferFrom,
+ * so the kernel copies it without passing through the Java heap; small control messages are
+ * framed as fixed-size ints and longs. Ints are 4 bytes in native byte order, like the files
+ * of ExternalSort, so every process must run on the same byte order.
+ */
+final class Transfer {
+
+    static final ByteOrder ORDER = ByteOrder.nativeOrder();
+
+    private Transfer() {
+    }
+
+    /**
+     * Send file[position..position+count) to the socket
+     */
+    static void send(FileChannel file, long position, long count, SocketChannel socket) throws IOException {
+        long end = position + count;
+        while (position < end) {
+            position += file.transferTo(position, end - position, socket);
+        }
+    }
+
+    /**
+     * Receive exactly count bytes from the blocking socket into file at position
+     * On a blocking socket transferFrom only comes back empty at end of stream
+     */
+    static void receive(SocketChannel socket, FileChannel file, long position, long count) throws IOException {
+        long end = position + count;
+        while (position < end) {
+            long read = file.transferFrom(socket, position, end - position);
+            if (read == 0) {
+                throw new EOFException("Connection closed with " + (end - position) + " bytes missing");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Write a control message
+     */
+    static void write(SocketChannel socket, ByteBuffer message) throws IOException {
+        message.flip();
+        while (message.hasRemaining()) {
+            socket.write(message);
+        }
+    }
+
+    /**
+     * Read exactly buffer.remaining() bytes
+     */
+    static void readFully(SocketChannel socket, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (socket.read(buffer) < 0) {
+                throw new EOFException("Connection closed mid-message");
+            }
+        }
+    }
+
+    /**
+     * Read a message of the given size, ready to be decoded
+     */
+    static ByteBuffer read(SocketChannel socket, int bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes).order(ORDER);
+        readFully(socket, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Send a length-prefixed int array
+     */
+    static void writeInts(SocketChannel socket, int[] values) throws IOException {
+        ByteBuffer message = ByteBuffer.allocate(Integer.BYTES * (values.length + 1)).order(ORDER);
+        message.putInt(values.length);
+        message.asIntBuffer().put(values);
+        message.position(message.limit());
+        write(socket, message);
+    }
+
+    /**
+     * Receive a length-prefixed int array
+     */
+    static int[] readInts(SocketChannel socket) throws IOException {
+        int length = read(socket, Integer.BYTES).getInt();
+        int[] values = new int[length];
+        read(socket, Integer.BYTES * length).asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Load count ints from a file of native-order ints
+     */
+    static int[] load(Path path, long position, int count) throws IOException {
+        int[] values = new int[count];
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int done = 0;
+            while (done < count) {
+                int chunk = Math.min(count - done, 1 << 28);
+                MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position + (long) done * Integer.BYTES, (long) chunk * Integer.BYTES);
+                IntBuffer ints = map.order(ORDER).asIntBuffer();
+                ints.get(values, done, chunk);
+                done += chunk;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Write values[offset..offset+count) to a new file of native-order ints
+     */
+    static void store(Path path, int[] values, int offset, int count) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int done = 0;
+            while (done < count) {
+                int chunk = Math.min(count - done, 1 << 28);
+                MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE,
+                        (long) done * Integer.BYTES, (long) chunk * Integer.BYTES);
+                map.order(ORDER).asIntBuffer().put(values, offset + done, chunk);
+                done += chunk;
+            }
+        }
+    }
+}
\ No newline at end of file
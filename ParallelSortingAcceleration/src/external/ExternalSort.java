@@ -0,0 +1,320 @@
+package external;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Out-of-core external merge sort for binary files of ints
+ * Phase 1 maps the input chunk by chunk, sorts each chunk with the parallel MergeSort and writes
+ * it to a run file. The chunk and MergeSort's temp array are allocated once and reused for every
+ * run; by default the two together take half the heap.
+ * Phase 2 k-way merges the runs through a min-heap, reading and writing with large buffers.
+ * At most maxFanIn runs are merged at once; with more runs, earlier passes merge groups of
+ * them into longer runs first. The read and write buffers are allocated once and reused by
+ * every run and every merge.
+ * Time Complexity: O(n log n), with O(n log_fanIn(runs)) disk traffic
+ * Space Complexity: O(chunk) heap (the chunk plus MergeSort's temp array),
+ * (maxFanIn + 1) * bufferBytes direct memory, O(n) temporary disk
+ * Ints are stored as 4-byte values in the platform's native byte order.
+ */
+public class ExternalSort {
+
+    /**
+     * Bounds of the default chunk size, in ints
+     */
+    private static final int MIN_CHUNK_INTS = 1 << 16;
+    private static final int MAX_CHUNK_INTS = 1 << 30;
+
+    /**
+     * Ints mapped at a time when reading a chunk; a mapping is limited to Integer.MAX_VALUE bytes
+     */
+    private static final int MAP_WINDOW_INTS = 1 << 28;
+
+    /**
+     * Default size of each run's read buffer and of the output buffer
+     */
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 22;
+
+    /**
+     * Default number of runs merged at once
+     */
+    public static final int DEFAULT_MAX_FAN_IN = 16;
+
+    private static final ByteOrder ORDER = ByteOrder.nativeOrder();
+
+    /**
+     * Sort input into output using default chunk and buffer sizes, spilling runs to tempDir
+     */
+    public static void sort(Path input, Path output, Path tempDir) throws IOException {
+        sort(input, output, tempDir, defaultChunkInts(), DEFAULT_BUFFER_BYTES, DEFAULT_MAX_FAN_IN,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ints per run such that the chunk and MergeSort's temp array fit in half the maximum heap
+     * Both are chunkInts long, so phase 1 holds 8 bytes of heap per int of chunk.
+     */
+    public static int defaultChunkInts() {
+        long bytesPerInt = 2L * Integer.BYTES;
+        long ints = Runtime.getRuntime().maxMemory() / 2 / bytesPerInt;
+        return (int) Math.max(MIN_CHUNK_INTS, Math.min(ints, MAX_CHUNK_INTS));
+    }
+
+    /**
+     * Sort input into output
+     * @param chunkInts ints sorted in memory per run; bounds the heap used in phase 1
+     * @param bufferBytes bytes buffered per run being merged and for the output
+     * @param maxFanIn most runs merged at once; bounds the direct memory used in phase 2
+     * @param parallelism workers used to sort each chunk
+     */
+    public static void sort(Path input, Path output, Path tempDir, int chunkInts, int bufferBytes,
+                            int maxFanIn, int parallelism) throws IOException {
+        if (chunkInts < 1 || bufferBytes < Integer.BYTES || parallelism < 1) {
+            throw new IllegalArgumentException("Chunk, buffer and parallelism must be positive");
+        }
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2: " + maxFanIn);
+        }
+        long bytes = Files.size(input);
+        if (bytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Input size is not a multiple of 4 bytes: " + bytes);
+        }
+
+        ByteBuffer writeBuffer = allocate(bufferBytes);
+        List<Path> runs = createRuns(input, tempDir, bytes / Integer.BYTES, chunkInts, parallelism,
+                writeBuffer);
+        try {
+            ByteBuffer[] readBuffers = new ByteBuffer[Math.min(maxFanIn, runs.size())];
+            for (int i = 0; i < readBuffers.length; i++) {
+                readBuffers[i] = allocate(bufferBytes);
+            }
+            mergePasses(runs, output, tempDir, readBuffers, writeBuffer);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Phase 1: sort each chunk of the input into its own run file
+     */
+    private static List<Path> createRuns(Path input, Path tempDir, long n, int chunkInts,
+                                         int parallelism, ByteBuffer writeBuffer) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        // One chunk and one merge buffer for every run; the last run uses a prefix of both
+        int[] chunk = new int[(int) Math.min(chunkInts, n)];
+        int[] temp = new int[chunk.length];
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            for (long start = 0; start < n; start += chunkInts) {
+                int length = (int) Math.min(chunkInts, n - start);
+                for (int done = 0; done < length; ) {
+                    int window = Math.min(length - done, MAP_WINDOW_INTS);
+                    MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY,
+                            (start + done) * Integer.BYTES, (long) window * Integer.BYTES);
+                    mapped.order(ORDER).asIntBuffer().get(chunk, done, window);
+                    done += window;
+                }
+
+                parallel.MergeSort.sort(chunk, length, temp, pool, parallel.MergeSort.DEFAULT_THRESHOLD);
+
+                Path run = Files.createTempFile(tempDir, "run-", ".bin");
+                runs.add(run);
+                writeRun(chunk, length, run, writeBuffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+        return runs;
+    }
+
+    /**
+     * Write chunk[0..length) to its run file through the shared direct buffer
+     */
+    private static void writeRun(int[] chunk, int length, Path run, ByteBuffer buffer) throws IOException {
+        try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            IntBuffer ints = buffer.clear().asIntBuffer();
+            for (int i = 0; i < length; ) {
+                int count = Math.min(ints.capacity(), length - i);
+                ints.clear();
+                ints.put(chunk, i, count);
+                buffer.clear().limit(count * Integer.BYTES);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                i += count;
+            }
+        }
+    }
+
+    /**
+     * Phase 2: merge the runs into output, at most one read buffer's worth of runs at a time
+     * Intermediate runs are appended to runs, and merged inputs removed from it, so runs always
+     * lists every file left to delete.
+     */
+    private static void mergePasses(List<Path> runs, Path output, Path tempDir, ByteBuffer[] readBuffers,
+                                    ByteBuffer writeBuffer) throws IOException {
+        int fanIn = readBuffers.length;
+        if (runs.size() > fanIn) {
+            // The first merge takes just enough runs that every later merge, including the
+            // final one, is a full fan-in; merging oldest first rewrites each key about
+            // log_fanIn(runs) times
+            int group = (runs.size() - 2) % (fanIn - 1) + 2;
+            while (runs.size() > fanIn) {
+                List<Path> inputs = new ArrayList<>(runs.subList(0, group));
+                Path merged = Files.createTempFile(tempDir, "run-", ".bin");
+                runs.add(merged);
+                mergeRuns(inputs, merged, readBuffers, writeBuffer);
+                runs.subList(0, group).clear();
+                for (Path run : inputs) {
+                    Files.delete(run);
+                }
+                group = fanIn;
+            }
+        }
+        mergeRuns(runs, output, readBuffers, writeBuffer);
+    }
+
+    /**
+     * k-way merge of the sorted runs into output, reading run i through readBuffers[i]
+     */
+    private static void mergeRuns(List<Path> runs, Path output, ByteBuffer[] readBuffers,
+                                  ByteBuffer buffer) throws IOException {
+        List<RunReader> readers = new ArrayList<>();
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path run : runs) {
+                readers.add(new RunReader(run, readBuffers[readers.size()]));
+            }
+
+            // Binary min-heap of readers ordered by their current head value
+            RunReader[] heap = new RunReader[readers.size()];
+            int size = 0;
+            for (RunReader reader : readers) {
+                if (reader.advance()) {
+                    heap[size++] = reader;
+                }
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(heap, i, size);
+            }
+
+            buffer.clear();
+            while (size > 0) {
+                RunReader top = heap[0];
+                if (!buffer.hasRemaining()) {
+                    flush(out, buffer);
+                }
+                buffer.putInt(top.head);
+
+                if (top.advance()) {
+                    siftDown(heap, 0, size);
+                } else {
+                    heap[0] = heap[--size];
+                    siftDown(heap, 0, size);
+                }
+            }
+            flush(out, buffer);
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Restore heap order below position i
+     */
+    private static void siftDown(RunReader[] heap, int i, int size) {
+        RunReader item = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].head < heap[child].head) {
+                child++;
+            }
+            if (item.head <= heap[child].head) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }
+
+    /**
+     * Direct buffer of whole ints, at most bufferBytes long
+     */
+    private static ByteBuffer allocate(int bufferBytes) {
+        return ByteBuffer.allocateDirect(bufferBytes - bufferBytes % Integer.BYTES).order(ORDER);
+    }
+
+    /**
+     * Write out and clear the output buffer
+     */
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Sequential buffered reader over one run file
+     */
+    private static class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        int head;
+
+        RunReader(Path run, ByteBuffer buffer) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = buffer;
+            this.buffer.clear().limit(0);
+        }
+
+        /**
+         * Load the next value into head
+         * @return false once the run is exhausted
+         */
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.compact();
+                while (buffer.position() < Integer.BYTES) {
+                    if (channel.read(buffer) < 0) {
+                        return false;
+                    }
+                }
+                buffer.flip();
+            }
+            head = buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
\ No newline at end of file
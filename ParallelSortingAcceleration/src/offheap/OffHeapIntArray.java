@@ -0,0 +1,124 @@
+package offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Fixed-length array of ints stored outside the Java heap, indexed by long
+ * Backed by direct buffers of 2^28 ints (1 GB) each, so the length is not capped at 2^31 and
+ * the contents are never scanned or copied by the garbage collector. The native memory is
+ * released when the array becomes unreachable; size it against -XX:MaxDirectMemorySize.
+ */
+public class OffHeapIntArray {
+
+    /**
+     * log2 of the ints per backing segment
+     */
+    static final int SEGMENT_SHIFT = 28;
+    static final int SEGMENT_INTS = 1 << SEGMENT_SHIFT;
+    static final long SEGMENT_MASK = SEGMENT_INTS - 1;
+
+    private final IntBuffer[] segments;
+    private final long length;
+
+    private OffHeapIntArray(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        this.length = length;
+        int count = (int) ((length + SEGMENT_INTS - 1) >>> SEGMENT_SHIFT);
+        this.segments = new IntBuffer[count];
+        for (int s = 0; s < count; s++) {
+            long ints = Math.min(SEGMENT_INTS, length - ((long) s << SEGMENT_SHIFT));
+            segments[s] = ByteBuffer.allocateDirect((int) ints * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+        }
+    }
+
+    /**
+     * Allocate a zero-filled off-heap array
+     */
+    public static OffHeapIntArray allocate(long length) {
+        return new OffHeapIntArray(length);
+    }
+
+    /**
+     * Copy an on-heap array into a new off-heap array
+     */
+    public static OffHeapIntArray of(int[] values) {
+        OffHeapIntArray array = new OffHeapIntArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Number of elements
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Read the element at index
+     */
+    public int get(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    /**
+     * Write the element at index
+     */
+    public void set(long index, int value) {
+        segments[(int) (index >>> SEGMENT_SHIFT)].put((int) (index & SEGMENT_MASK), value);
+    }
+
+    /**
+     * Copy length ints from src[srcPos..] to dst[dstPos..], one bulk transfer per segment span
+     * The ranges must not overlap unless src and dst are different arrays
+     */
+    public static void copy(OffHeapIntArray src, long srcPos, OffHeapIntArray dst, long dstPos, long length) {
+        while (length > 0) {
+            int srcOffset = (int) (srcPos & SEGMENT_MASK);
+            int dstOffset = (int) (dstPos & SEGMENT_MASK);
+            int span = (int) Math.min(length,
+                    Math.min(SEGMENT_INTS - srcOffset, SEGMENT_INTS - dstOffset));
+
+            dst.segments[(int) (dstPos >>> SEGMENT_SHIFT)]
+                    .put(dstOffset, src.segments[(int) (srcPos >>> SEGMENT_SHIFT)], srcOffset, span);
+
+            srcPos += span;
+            dstPos += span;
+            length -= span;
+        }
+    }
+
+    /**
+     * Copy the contents back to a heap array (only for lengths below 2^31)
+     */
+    public int[] toArray() {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too large for a Java array: " + length);
+        }
+        int[] values = new int[(int) length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(i);
+        }
+        return values;
+    }
+
+    /**
+     * Verify if array is sorted
+     */
+    public boolean isSorted() {
+        for (long i = 1; i < length; i++) {
+            if (get(i - 1) > get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
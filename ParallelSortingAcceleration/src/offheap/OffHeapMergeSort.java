@@ -0,0 +1,201 @@
+package offheap;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel MergeSort over an OffHeapIntArray with long indices
+ * Same structure as parallel.MergeSort: tasks ping-pong between the input and one off-heap
+ * scratch array, and large merges are split on binary-searched co-ranks.
+ * Time Complexity: O(n log n)
+ * Space Complexity: O(n) off-heap scratch, nothing proportional to n on the heap
+ */
+public class OffHeapMergeSort {
+
+    /**
+     * Default range size below which sorting and merging run sequentially
+     */
+    public static final long DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Ranges up to this size are insertion sorted
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Public method to sort array on the common pool
+     */
+    public static void sort(OffHeapIntArray arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort array on the given pool
+     */
+    public static void sort(OffHeapIntArray arr, ForkJoinPool pool) {
+        if (arr == null || arr.length() <= 1) {
+            return;
+        }
+        OffHeapIntArray temp = OffHeapIntArray.allocate(arr.length());
+        pool.invoke(new SortTask(arr, temp, 0, arr.length(), false, DEFAULT_THRESHOLD));
+    }
+
+    /**
+     * Sorts src[lo..hi) into dst when intoDst is set, otherwise in place in src
+     */
+    private static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final OffHeapIntArray src;
+        private final OffHeapIntArray dst;
+        private final long lo;
+        private final long hi;
+        private final boolean intoDst;
+        private final long threshold;
+
+        SortTask(OffHeapIntArray src, OffHeapIntArray dst, long lo, long hi, boolean intoDst, long threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoDst = intoDst;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(src, lo, hi);
+                if (intoDst) {
+                    OffHeapIntArray.copy(src, lo, dst, lo, hi - lo);
+                }
+                return;
+            }
+
+            long mid = (lo + hi) >>> 1;
+            SortTask left = new SortTask(src, dst, lo, mid, !intoDst, threshold);
+            SortTask right = new SortTask(src, dst, mid, hi, !intoDst, threshold);
+            if (hi - lo > threshold) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+
+            OffHeapIntArray from = intoDst ? src : dst;
+            OffHeapIntArray to = intoDst ? dst : src;
+            new MergeTask(from, lo, mid, mid, hi, to, lo, threshold).compute();
+        }
+    }
+
+    /**
+     * Merges from[aLo..aHi) with from[bLo..bHi) into to starting at outLo
+     */
+    private static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final OffHeapIntArray from;
+        private final long aLo;
+        private final long aHi;
+        private final long bLo;
+        private final long bHi;
+        private final OffHeapIntArray to;
+        private final long outLo;
+        private final long threshold;
+
+        MergeTask(OffHeapIntArray from, long aLo, long aHi, long bLo, long bHi, OffHeapIntArray to,
+                  long outLo, long threshold) {
+            this.from = from;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.to = to;
+            this.outLo = outLo;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            long aLen = aHi - aLo;
+            long bLen = bHi - bLo;
+            long total = aLen + bLen;
+
+            if (total <= threshold) {
+                merge();
+                return;
+            }
+
+            long k = total / 2;
+            long i = coRank(k, aLen, bLen);
+            long j = k - i;
+
+            invokeAll(new MergeTask(from, aLo, aLo + i, bLo, bLo + j, to, outLo, threshold),
+                      new MergeTask(from, aLo + i, aHi, bLo + j, bHi, to, outLo + k, threshold));
+        }
+
+        /**
+         * Largest i with a[i - 1] <= b[k - i], i.e. how many of the first k outputs come from a
+         */
+        private long coRank(long k, long aLen, long bLen) {
+            long low = Math.max(0, k - bLen);
+            long high = Math.min(k, aLen);
+            while (low < high) {
+                long i = (low + high + 1) >>> 1;
+                if (from.get(aLo + i - 1) > from.get(bLo + k - i)) {
+                    high = i - 1;
+                } else {
+                    low = i;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Sequential merge of the two ranges
+         */
+        private void merge() {
+            long i = aLo;
+            long j = bLo;
+            long k = outLo;
+            while (i < aHi && j < bHi) {
+                int a = from.get(i);
+                int b = from.get(j);
+                if (a <= b) {
+                    to.set(k++, a);
+                    i++;
+                } else {
+                    to.set(k++, b);
+                    j++;
+                }
+            }
+            if (i < aHi) {
+                OffHeapIntArray.copy(from, i, to, k, aHi - i);
+            } else if (j < bHi) {
+                OffHeapIntArray.copy(from, j, to, k, bHi - j);
+            }
+        }
+    }
+
+    /**
+     * Insertion sort of arr[lo..hi)
+     */
+    private static void insertionSort(OffHeapIntArray arr, long lo, long hi) {
+        for (long i = lo + 1; i < hi; i++) {
+            int key = arr.get(i);
+            long j = i - 1;
+            while (j >= lo && arr.get(j) > key) {
+                arr.set(j + 1, arr.get(j));
+                j--;
+            }
+            arr.set(j + 1, key);
+        }
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Off-Heap Parallel MergeSort";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package offheap;
+
+import parallel.RadixPasses;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel LSD Radix Sort over an OffHeapIntArray with long indices
+ * Same passes as parallel.RadixSort, driven by the shared RadixPasses (four 8-bit digits,
+ * per-block histograms, stable scatter, sign bit flipped on the top digit), with the ping-pong
+ * buffer allocated off-heap.
+ * Time Complexity: O(n)
+ * Space Complexity: O(n) off-heap scratch, O(p * 256) heap for the histograms
+ */
+public class OffHeapRadixSort {
+
+    private static final int PASSES = Integer.SIZE / RadixPasses.DIGIT_BITS;
+
+    /**
+     * Minimum number of elements per block
+     */
+    public static final long MIN_BLOCK = 1 << 16;
+
+    /**
+     * Public method to sort array on the common pool
+     */
+    public static void sort(OffHeapIntArray arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort array on the given pool
+     */
+    public static void sort(OffHeapIntArray arr, ForkJoinPool pool) {
+        if (arr == null || arr.length() <= 1) {
+            return;
+        }
+
+        OffHeapKeys keys = new OffHeapKeys(arr, OffHeapIntArray.allocate(arr.length()));
+        RadixPasses.sort(keys, PASSES, MIN_BLOCK, pool);
+
+        if (keys.src != arr) {
+            OffHeapIntArray.copy(keys.src, 0, arr, 0, arr.length());
+        }
+    }
+
+    /**
+     * Off-heap int keys and their off-heap ping-pong buffer
+     */
+    private static final class OffHeapKeys implements RadixPasses.Keys {
+        OffHeapIntArray src;
+        OffHeapIntArray dst;
+
+        OffHeapKeys(OffHeapIntArray src, OffHeapIntArray dst) {
+            this.src = src;
+            this.dst = dst;
+        }
+
+        @Override
+        public long length() {
+            return src.length();
+        }
+
+        @Override
+        public void count(long from, long to, int shift, boolean signed, long[] counts) {
+            OffHeapIntArray src = this.src;
+            for (long i = from; i < to; i++) {
+                counts[RadixPasses.digit(src.get(i), shift, signed)]++;
+            }
+        }
+
+        @Override
+        public void scatter(long from, long to, int shift, boolean signed, long[] offsets) {
+            OffHeapIntArray src = this.src;
+            OffHeapIntArray dst = this.dst;
+            for (long i = from; i < to; i++) {
+                int key = src.get(i);
+                dst.set(offsets[RadixPasses.digit(key, shift, signed)]++, key);
+            }
+        }
+
+        @Override
+        public void flip() {
+            OffHeapIntArray swap = src;
+            src = dst;
+            dst = swap;
+        }
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Off-Heap Parallel RadixSort";
+    }
+}
\ No newline at end of file
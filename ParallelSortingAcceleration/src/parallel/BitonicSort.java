@@ -0,0 +1,201 @@
+package parallel;
+
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Parallel iterative Bitonic Sort implementation
+ * Time Complexity: O(n log² n) work, O(log² n) barrier-separated stages
+ * Space Complexity: O(1)
+ * Works on any array size without padding: the network is laid out for the next power of 2,
+ * and every comparison that reaches past the end is skipped as if it met Integer.MAX_VALUE.
+ * This is valid because every comparator is ascending (the first stage of each merge compares
+ * mirrored positions instead of flipping direction), so a virtual maximum never moves.
+ */
+public class BitonicSort {
+
+    /**
+     * Log2 of the minimum number of network positions per worker thread
+     * Below this the barrier costs more than the comparisons it separates
+     */
+    private static final int LOG_MIN_CHUNK = 14;
+
+    /**
+     * Public method to sort array using all available processors
+     */
+    public static void sort(int[] arr) {
+        sort(arr, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Sort array using up to the given number of worker threads
+     * The caller's thread is one of the workers. If any worker fails, the stage barrier is
+     * terminated so the others stop instead of waiting for it, and the first failure is
+     * rethrown here once every worker has finished.
+     */
+    public static void sort(int[] arr, int parallelism) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        int n = arr.length;
+        int logSize = 32 - Integer.numberOfLeadingZeros(n - 1);
+
+        // Power of two worker count, so each worker owns an aligned block of the network
+        int logThreads = 31 - Integer.numberOfLeadingZeros(Math.max(1, parallelism));
+        while (logThreads > 0 && logSize - logThreads < LOG_MIN_CHUNK) {
+            logThreads--;
+        }
+        int threads = 1 << logThreads;
+        int logChunk = logSize - logThreads;
+
+        if (threads == 1) {
+            new Worker(arr, logSize, logChunk, 0, null, null).run();
+            return;
+        }
+
+        Phaser barrier = new Phaser(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] helpers = new Thread[threads - 1];
+        for (int t = 1; t < threads; t++) {
+            helpers[t - 1] = new Thread(new Worker(arr, logSize, logChunk, t, barrier, failure),
+                    "bitonic-worker-" + t);
+            helpers[t - 1].start();
+        }
+
+        new Worker(arr, logSize, logChunk, 0, barrier, failure).run();
+
+        for (Thread helper : helpers) {
+            try {
+                helper.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for bitonic workers", e);
+            }
+        }
+
+        Throwable first = failure.get();
+        if (first instanceof RuntimeException) {
+            throw (RuntimeException) first;
+        }
+        if (first instanceof Error) {
+            throw (Error) first;
+        }
+    }
+
+    /**
+     * Runs every stage of the network over one worker's share of comparator pairs
+     */
+    private static class Worker implements Runnable {
+        private final int[] arr;
+        private final int logSize;
+        private final int logChunk;
+        private final int firstPair;
+        private final int endPair;
+        private final Phaser barrier;
+        private final AtomicReference<Throwable> failure;
+
+        Worker(int[] arr, int logSize, int logChunk, int index, Phaser barrier,
+               AtomicReference<Throwable> failure) {
+            this.arr = arr;
+            this.logSize = logSize;
+            this.logChunk = logChunk;
+            // Each worker owns 2^logChunk network positions, i.e. half as many pairs
+            int pairsPerWorker = 1 << (logChunk - 1);
+            this.firstPair = index * pairsPerWorker;
+            this.endPair = firstPair + pairsPerWorker;
+            this.barrier = barrier;
+            this.failure = failure;
+        }
+
+        /**
+         * Run the network, recording a failure and terminating the barrier if there are peers
+         */
+        @Override
+        public void run() {
+            try {
+                network();
+            } catch (RuntimeException | Error e) {
+                if (barrier == null) {
+                    throw e;
+                }
+                // Workers that lost the race to record a failure only saw the barrier end
+                failure.compareAndSet(null, e);
+                barrier.forceTermination();
+            }
+        }
+
+        /**
+         * Every stage of the network over this worker's pairs
+         */
+        private void network() {
+            for (int logBlock = 1; logBlock <= logSize; logBlock++) {
+                for (int logDistance = logBlock - 1; logDistance >= 0; logDistance--) {
+                    stage(logDistance, logDistance == logBlock - 1);
+
+                    // Stages whose pairs stay inside a worker's own chunk need no barrier
+                    boolean last = logBlock == logSize && logDistance == 0;
+                    int nextDistance = logDistance > 0 ? logDistance - 1 : logBlock;
+                    if (barrier != null && !last
+                            && (logDistance >= logChunk || nextDistance >= logChunk)) {
+                        await();
+                    }
+                }
+            }
+        }
+
+        /**
+         * One column of ascending comparators at distance 2^logDistance
+         * With mirror set, position i is compared with its reflection in the enclosing block
+         */
+        private void stage(int logDistance, boolean mirror) {
+            int n = arr.length;
+            int lowMask = (1 << logDistance) - 1;
+            int partnerMask = mirror ? (1 << (logDistance + 1)) - 1 : 1 << logDistance;
+
+            for (int p = firstPair; p < endPair; p++) {
+                // Insert a zero bit at position logDistance to get the lower index of pair p
+                int i = ((p >>> logDistance) << (logDistance + 1)) | (p & lowMask);
+                if (i >= n) {
+                    break;
+                }
+                int j = i ^ partnerMask;
+                if (j < n) {
+                    compareAndSwap(arr, i, j);
+                }
+            }
+        }
+
+        /**
+         * Wait until every worker has finished the current stage
+         * A terminated barrier returns at once, here and at every later stage
+         */
+        private void await() {
+            try {
+                if (barrier.awaitAdvanceInterruptibly(barrier.arrive()) < 0) {
+                    throw new IllegalStateException("Bitonic stage barrier terminated by a failed worker");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted inside bitonic stage barrier", e);
+            }
+        }
+    }
+
+    /**
+     * Put the smaller of arr[i] and arr[j] at i (requires i < j)
+     */
+    private static void compareAndSwap(int[] arr, int i, int j) {
+        int a = arr[i];
+        int b = arr[j];
+        arr[i] = Math.min(a, b);
+        arr[j] = Math.max(a, b);
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel BitonicSort";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,367 @@
+package parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Lexicographic multi-column sort of a table stored as parallel int[] / long[] columns
+ * No row objects are built. Each key column's range is measured in parallel, and adjacent
+ * columns are packed into as few 63-bit keys as their ranges allow: three columns with small
+ * domains often become one long key. The packs are sorted least significant first with the
+ * stable parallel LSD radix sort of PrimitiveSort, which carries a single row permutation
+ * along. Every column, key or payload, is then reordered once by a parallel gather through one
+ * reused scratch buffer per element type.
+ * Time Complexity: O(n * total key bytes), with constant columns costing nothing
+ * Space Complexity: O(n): the permutation, one long key buffer, and one scratch column per type
+ */
+public class ColumnarSort {
+
+    /**
+     * Minimum number of rows per parallel block
+     */
+    private static final int MIN_BLOCK = 1 << 15;
+
+    /**
+     * Bits available in a packed key that the signed radix sort reads as non-negative
+     */
+    private static final int PACK_BITS = 63;
+
+    /**
+     * One key column with its sort direction
+     */
+    public static final class Key {
+        private final int[] ints;
+        private final long[] longs;
+        private final boolean descending;
+
+        private Key(int[] ints, long[] longs, boolean descending) {
+            this.ints = ints;
+            this.longs = longs;
+            this.descending = descending;
+        }
+
+        /**
+         * Ascending key on an int column
+         */
+        public static Key of(int[] column) {
+            if (column == null) {
+                throw new IllegalArgumentException("Key column must not be null");
+            }
+            return new Key(column, null, false);
+        }
+
+        /**
+         * Ascending key on a long column
+         */
+        public static Key of(long[] column) {
+            if (column == null) {
+                throw new IllegalArgumentException("Key column must not be null");
+            }
+            return new Key(null, column, false);
+        }
+
+        /**
+         * The same column, sorted in descending order
+         */
+        public Key descending() {
+            return new Key(ints, longs, !descending);
+        }
+
+        int length() {
+            return ints != null ? ints.length : longs.length;
+        }
+
+        /**
+         * Row value mapped so that ascending signed order is the requested order
+         */
+        long sortable(int row) {
+            long value = ints != null ? ints[row] : longs[row];
+            return descending ? ~value : value;
+        }
+    }
+
+    /**
+     * Row permutation p such that row p[0] precedes p[1] ... in lexicographic key order, on the
+     * common pool; ties keep their original order
+     */
+    public static int[] permutation(Key... keys) {
+        return permutation(ForkJoinPool.commonPool(), keys);
+    }
+
+    /**
+     * Stable lexicographic row permutation on the given pool; the columns are not modified
+     */
+    public static int[] permutation(ForkJoinPool pool, Key... keys) {
+        int n = rowCount(keys);
+        int[] perm = new int[n];
+        pool.invoke(new RangeTask(0, n, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                perm[i] = i;
+            }
+        }));
+        if (n <= 1) {
+            return perm;
+        }
+
+        List<Pack> packs = plan(keys, pool);
+        long[] packed = new long[n];
+        for (int p = packs.size() - 1; p >= 0; p--) {
+            Pack pack = packs.get(p);
+            pool.invoke(new RangeTask(0, n, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    packed[i] = pack.key(perm[i]);
+                }
+            }));
+            PrimitiveSort.radixSort(packed, perm, pack.passes(), pool);
+        }
+        return perm;
+    }
+
+    /**
+     * Sort the table in place on the common pool: key columns and payload columns alike are
+     * reordered by the lexicographic order of the keys
+     * @param intColumns int payload columns, may be empty; key columns need not be repeated here
+     * @param longColumns long payload columns, may be empty
+     */
+    public static void sort(Key[] keys, int[][] intColumns, long[][] longColumns) {
+        sort(keys, intColumns, longColumns, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort the table in place on the given pool
+     */
+    public static void sort(Key[] keys, int[][] intColumns, long[][] longColumns, ForkJoinPool pool) {
+        int n = rowCount(keys);
+        int[] perm = permutation(pool, keys);
+
+        List<int[]> ints = new ArrayList<>();
+        List<long[]> longs = new ArrayList<>();
+        for (Key key : keys) {
+            addOnce(ints, longs, key.ints, key.longs);
+        }
+        for (int[] column : intColumns) {
+            checkLength(column == null ? -1 : column.length, n);
+            addOnce(ints, longs, column, null);
+        }
+        for (long[] column : longColumns) {
+            checkLength(column == null ? -1 : column.length, n);
+            addOnce(ints, longs, null, column);
+        }
+
+        // One scratch column per type, reused for every column of that type
+        if (!ints.isEmpty()) {
+            int[] scratch = sequential.ScratchArena.borrow(n);
+            try {
+                for (int[] column : ints) {
+                    gather(perm, column, scratch, pool);
+                    copy(scratch, column, pool);
+                }
+            } finally {
+                sequential.ScratchArena.release(scratch);
+            }
+        }
+        if (!longs.isEmpty()) {
+            long[] scratch = new long[n];
+            for (long[] column : longs) {
+                gather(perm, column, scratch, pool);
+                copy(scratch, column, pool);
+            }
+        }
+    }
+
+    /**
+     * dst[i] = src[perm[i]] for every row, in parallel; dst must not be src
+     */
+    public static void gather(int[] perm, int[] src, int[] dst, ForkJoinPool pool) {
+        pool.invoke(new RangeTask(0, perm.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                dst[i] = src[perm[i]];
+            }
+        }));
+    }
+
+    /**
+     * dst[i] = src[perm[i]] for every row, in parallel; dst must not be src
+     */
+    public static void gather(int[] perm, long[] src, long[] dst, ForkJoinPool pool) {
+        pool.invoke(new RangeTask(0, perm.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                dst[i] = src[perm[i]];
+            }
+        }));
+    }
+
+    /**
+     * Parallel copy of the first length(dst) rows
+     */
+    private static void copy(int[] src, int[] dst, ForkJoinPool pool) {
+        pool.invoke(new RangeTask(0, dst.length, (from, to) -> System.arraycopy(src, from, dst, from, to - from)));
+    }
+
+    /**
+     * Parallel copy of the first length(dst) rows
+     */
+    private static void copy(long[] src, long[] dst, ForkJoinPool pool) {
+        pool.invoke(new RangeTask(0, dst.length, (from, to) -> System.arraycopy(src, from, dst, from, to - from)));
+    }
+
+    /**
+     * Add a column unless the same array is already listed, so it is permuted exactly once
+     */
+    private static void addOnce(List<int[]> ints, List<long[]> longs, int[] intColumn, long[] longColumn) {
+        if (intColumn != null && ints.stream().noneMatch(c -> c == intColumn)) {
+            ints.add(intColumn);
+        }
+        if (longColumn != null && longs.stream().noneMatch(c -> c == longColumn)) {
+            longs.add(longColumn);
+        }
+    }
+
+    /**
+     * Common length of the key columns
+     */
+    private static int rowCount(Key[] keys) {
+        if (keys == null || keys.length == 0) {
+            throw new IllegalArgumentException("At least one key column is required");
+        }
+        int n = keys[0].length();
+        for (Key key : keys) {
+            checkLength(key.length(), n);
+        }
+        return n;
+    }
+
+    private static void checkLength(int length, int rows) {
+        if (length != rows) {
+            throw new IllegalArgumentException("Column has " + length + " rows, expected " + rows);
+        }
+    }
+
+    /**
+     * Adjacent key columns sharing one packed radix key
+     * A column whose values span the full 64 bits is packed alone and sorted on its raw value.
+     */
+    private static class Pack {
+        Key[] keys = new Key[0];
+        long[] mins = new long[0];
+        int[] shifts = new int[0];
+        int bits;
+        boolean raw;
+
+        /**
+         * Append a less significant column of the given width, shifting the others up
+         */
+        void add(Key key, long min, int width) {
+            int c = keys.length;
+            keys = Arrays.copyOf(keys, c + 1);
+            mins = Arrays.copyOf(mins, c + 1);
+            shifts = Arrays.copyOf(shifts, c + 1);
+            for (int i = 0; i < c; i++) {
+                shifts[i] += width;
+            }
+            keys[c] = key;
+            mins[c] = min;
+            bits += width;
+        }
+
+        /**
+         * Packed key of a row: each column's offset from its minimum, most significant first
+         */
+        long key(int row) {
+            if (raw) {
+                return keys[0].sortable(row);
+            }
+            long key = 0;
+            for (int c = 0; c < keys.length; c++) {
+                key |= (keys[c].sortable(row) - mins[c]) << shifts[c];
+            }
+            return key;
+        }
+
+        /**
+         * Radix passes that cover the used bits plus a zero sign bit
+         */
+        int passes() {
+            return raw ? Long.BYTES : bits / Byte.SIZE + 1;
+        }
+    }
+
+    /**
+     * Measure every key column and group adjacent columns into packs of at most 63 bits
+     * Columns holding a single value do not affect the order and are dropped.
+     */
+    private static List<Pack> plan(Key[] keys, ForkJoinPool pool) {
+        List<Pack> packs = new ArrayList<>();
+        Pack current = null;
+        for (Key key : keys) {
+            long[] range = pool.invoke(new RangeOfTask(key, 0, key.length()));
+            long span = range[1] - range[0];
+            if (span == 0) {
+                continue;
+            }
+            if (span < 0) {
+                // Range needs all 64 bits
+                Pack raw = new Pack();
+                raw.add(key, 0, Long.SIZE);
+                raw.raw = true;
+                packs.add(raw);
+                current = null;
+                continue;
+            }
+            int width = Long.SIZE - Long.numberOfLeadingZeros(span);
+            if (current == null || current.bits + width > PACK_BITS) {
+                current = new Pack();
+                packs.add(current);
+            }
+            current.add(key, range[0], width);
+        }
+        return packs;
+    }
+
+    /**
+     * Minimum and maximum sortable value of a key column range
+     */
+    private static class RangeOfTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final Key key;
+        private final int lo;
+        private final int hi;
+
+        RangeOfTask(Key key, int lo, int hi) {
+            this.key = key;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (hi - lo <= MIN_BLOCK) {
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+                for (int i = lo; i < hi; i++) {
+                    long value = key.sortable(i);
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+                return new long[]{min, max};
+            }
+            int mid = (lo + hi) >>> 1;
+            RangeOfTask left = new RangeOfTask(key, lo, mid);
+            left.fork();
+            long[] right = new RangeOfTask(key, mid, hi).compute();
+            long[] leftRange = left.join();
+            return new long[]{Math.min(leftRange[0], right[0]), Math.max(leftRange[1], right[1])};
+        }
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel ColumnarSort";
+    }
+}
\ No newline at end of file
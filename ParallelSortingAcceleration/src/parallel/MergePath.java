@@ -0,0 +1,327 @@
+package parallel;
+
+import sequential.ScratchArena;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Merge-path parallel merge of arrays that are already sorted
+ * The output is cut into equal segments, one or more per worker. Each segment finds where it
+ * starts and ends in every input by co-ranking (a binary search along the merge path), then
+ * merges its slices on its own: no segment waits for or writes next to another's data.
+ * Time Complexity: O(n) work for two arrays, O(n log k) for k; O(n / p + log n) span
+ * Space Complexity: O(p * k), plus 2n / p scratch per worker for k > 2
+ */
+public class MergePath {
+
+    /**
+     * Smallest segment worth handing to another worker
+     */
+    public static final int MIN_SEGMENT = 1 << 13;
+
+    /**
+     * Merge sorted a and b into out[0..a.length + b.length) on the common pool
+     */
+    public static void merge(int[] a, int[] b, int[] out) {
+        merge(a, b, out, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Merge sorted a and b into out[0..a.length + b.length) on the given pool
+     * Equal keys are taken from a first.
+     */
+    public static void merge(int[] a, int[] b, int[] out, ForkJoinPool pool) {
+        if (a == null || b == null || out == null) {
+            throw new IllegalArgumentException("Inputs and output must not be null");
+        }
+        int total = checkOutput(a.length + (long) b.length, out);
+
+        int segments = segmentCount(total, pool);
+        if (segments == 1) {
+            MergeSort.merge(a, 0, a.length, b, 0, b.length, out, 0);
+            return;
+        }
+        List<RecursiveAction> tasks = new ArrayList<>(segments);
+        for (int s = 0; s < segments; s++) {
+            tasks.add(new PairSegment(a, b, out, bound(s, segments, total), bound(s + 1, segments, total)));
+        }
+        pool.invoke(new Segments(tasks));
+    }
+
+    /**
+     * Merge the sorted runs into out[0..total length) on the common pool
+     */
+    public static void mergeK(int[][] runs, int[] out) {
+        mergeK(runs, out, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Merge the sorted runs into out[0..total length) on the given pool
+     */
+    public static void mergeK(int[][] runs, int[] out, ForkJoinPool pool) {
+        if (runs == null || out == null) {
+            throw new IllegalArgumentException("Runs and output must not be null");
+        }
+        long length = 0;
+        for (int[] run : runs) {
+            if (run == null) {
+                throw new IllegalArgumentException("Runs must not contain null");
+            }
+            length += run.length;
+        }
+        int total = checkOutput(length, out);
+
+        if (runs.length == 0) {
+            return;
+        }
+        if (runs.length == 1) {
+            System.arraycopy(runs[0], 0, out, 0, total);
+            return;
+        }
+        if (runs.length == 2) {
+            merge(runs[0], runs[1], out, pool);
+            return;
+        }
+
+        int segments = segmentCount(total, pool);
+        if (segments == 1) {
+            mergeSlices(runs, new int[runs.length], lengths(runs), out, 0, total);
+            return;
+        }
+        List<RecursiveAction> tasks = new ArrayList<>(segments);
+        for (int s = 0; s < segments; s++) {
+            tasks.add(new MultiSegment(runs, out, bound(s, segments, total), bound(s + 1, segments, total)));
+        }
+        pool.invoke(new Segments(tasks));
+    }
+
+    /**
+     * Output length, checked against out
+     */
+    private static int checkOutput(long total, int[] out) {
+        if (total > out.length) {
+            throw new IllegalArgumentException("Output holds " + out.length + " values, need " + total);
+        }
+        return (int) total;
+    }
+
+    /**
+     * One segment per worker, fewer when segments would drop below MIN_SEGMENT
+     */
+    private static int segmentCount(int total, ForkJoinPool pool) {
+        return Math.max(1, Math.min(pool.getParallelism(), total / MIN_SEGMENT));
+    }
+
+    /**
+     * Output index where segment s of segments begins
+     */
+    private static int bound(int s, int segments, int total) {
+        return (int) ((long) total * s / segments);
+    }
+
+    /**
+     * Runs the independent segment tasks together
+     */
+    private static class Segments extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<RecursiveAction> tasks;
+
+        Segments(List<RecursiveAction> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Merges output positions [from, to) of a two-way merge
+     */
+    private static class PairSegment extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] a;
+        private final int[] b;
+        private final int[] out;
+        private final int from;
+        private final int to;
+
+        PairSegment(int[] a, int[] b, int[] out, int from, int to) {
+            this.a = a;
+            this.b = b;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int aFrom = MergeSort.coRank(from, a, 0, a.length, b, 0, b.length);
+            int aTo = MergeSort.coRank(to, a, 0, a.length, b, 0, b.length);
+            MergeSort.merge(a, aFrom, aTo, b, from - aFrom, to - aTo, out, from);
+        }
+    }
+
+    /**
+     * Merges output positions [from, to) of a k-way merge
+     */
+    private static class MultiSegment extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] runs;
+        private final int[] out;
+        private final int from;
+        private final int to;
+
+        MultiSegment(int[][] runs, int[] out, int from, int to) {
+            this.runs = runs;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            mergeSlices(runs, coRank(from, runs), coRank(to, runs), out, from, to - from);
+        }
+    }
+
+    /**
+     * Merge the slices runs[r][from[r]..to[r]), count values in all, into out at outLo
+     * Pairs of slices are merged level by level, ping-ponging between the halves of one
+     * scratch buffer, and the last level writes to out: log k tight two-way passes.
+     */
+    private static void mergeSlices(int[][] runs, int[] from, int[] to, int[] out, int outLo, int count) {
+        int pieces = runs.length;
+        int[][] src = runs.clone();
+        int[] lo = from.clone();
+        int[] hi = to.clone();
+
+        int[] scratch = pieces > 2 ? ScratchArena.borrow(2 * count) : null;
+        try {
+            int half = 0;
+            while (pieces > 2) {
+                int at = half * count;
+                int next = 0;
+                for (int p = 0; p < pieces; p += 2) {
+                    int start = at;
+                    if (p + 1 < pieces) {
+                        MergeSort.merge(src[p], lo[p], hi[p], src[p + 1], lo[p + 1], hi[p + 1], scratch, at);
+                        at += hi[p] - lo[p] + hi[p + 1] - lo[p + 1];
+                    } else {
+                        System.arraycopy(src[p], lo[p], scratch, at, hi[p] - lo[p]);
+                        at += hi[p] - lo[p];
+                    }
+                    src[next] = scratch;
+                    lo[next] = start;
+                    hi[next] = at;
+                    next++;
+                }
+                pieces = next;
+                half ^= 1;
+            }
+            MergeSort.merge(src[0], lo[0], hi[0], src[1], lo[1], hi[1], out, outLo);
+        } finally {
+            if (scratch != null) {
+                ScratchArena.release(scratch);
+            }
+        }
+    }
+
+    /**
+     * Per run, how many of its values are among the first k outputs of the merge
+     * Finds the value v at output rank k by binary search over the key range; every run gives
+     * up its keys below v, and the remaining ranks are filled with keys equal to v, earlier runs
+     * first. The split points never move backwards as k grows, so adjacent segments tile.
+     */
+    static int[] coRank(int k, int[][] runs) {
+        int[] split = new int[runs.length];
+
+        // Smallest v such that at least k keys are <= v
+        long low = Integer.MIN_VALUE;
+        long high = Integer.MAX_VALUE;
+        while (low < high) {
+            long v = (low + high) >> 1;
+            long atMost = 0;
+            for (int[] run : runs) {
+                atMost += upperBound(run, (int) v);
+            }
+            if (atMost >= k) {
+                high = v;
+            } else {
+                low = v + 1;
+            }
+        }
+        int v = (int) low;
+
+        int remaining = k;
+        for (int r = 0; r < runs.length; r++) {
+            split[r] = lowerBound(runs[r], v);
+            remaining -= split[r];
+        }
+        for (int r = 0; r < runs.length && remaining > 0; r++) {
+            int equal = Math.min(remaining, upperBound(runs[r], v) - split[r]);
+            split[r] += equal;
+            remaining -= equal;
+        }
+        return split;
+    }
+
+    /**
+     * Number of keys in run below v
+     */
+    private static int lowerBound(int[] run, int v) {
+        int low = 0;
+        int high = run.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (run[mid] < v) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Number of keys in run at most v
+     */
+    private static int upperBound(int[] run, int v) {
+        int low = 0;
+        int high = run.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (run[mid] <= v) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Length of every run
+     */
+    private static int[] lengths(int[][] runs) {
+        int[] lengths = new int[runs.length];
+        for (int r = 0; r < runs.length; r++) {
+            lengths[r] = runs[r].length;
+        }
+        return lengths;
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel MergePath";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+package parallel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel MergeSort implementation using Fork/Join
+ * Time Complexity: O(n log n) work, O(log³ n) span
+ * Space Complexity: O(n)
+ * Merges are split on binary-searched co-ranks, so even the top-level merge uses every core
+ */
+public class MergeSort {
+
+    /**
+     * Default subarray size below which sorting and merging run sequentially
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Public method to sort array on the common pool
+     */
+    public static void sort(int[] arr) {
+        sort(arr, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sort array on a dedicated pool with the given number of workers
+     */
+    public static void sort(int[] arr, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            sort(arr, pool, DEFAULT_THRESHOLD);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Sort array on the given pool, forking tasks only above threshold elements
+     */
+    public static void sort(int[] arr, ForkJoinPool pool, int threshold) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        sort(arr, arr.length, new int[arr.length], pool, threshold);
+    }
+
+    /**
+     * Sort arr[0..length) on the given pool, merging through temp, which must be as long
+     * Callers sorting one buffer after another pass the same temp instead of allocating each time
+     */
+    public static void sort(int[] arr, int length, int[] temp, ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least 2: " + threshold);
+        }
+        if (length > arr.length || length > temp.length) {
+            throw new IllegalArgumentException("Length " + length + " exceeds the array or temp buffer");
+        }
+        if (length <= 1) {
+            return;
+        }
+        pool.invoke(new SortTask(arr, temp, 0, length, false, threshold));
+    }
+
+    /**
+     * Sorts src[lo..hi) and leaves the result in dst when intoDst is set, otherwise in src
+     * Children sort into the opposite buffer so no level ever copies back
+     */
+    private static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo;
+        private final int hi;
+        private final boolean intoDst;
+        private final int threshold;
+
+        SortTask(int[] src, int[] dst, int lo, int hi, boolean intoDst, int threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoDst = intoDst;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                // dst[lo..hi) is free at this point, so it doubles as the merge buffer
+                sequential.MergeSort.sort(src, dst, lo, hi - 1);
+                if (intoDst) {
+                    System.arraycopy(src, lo, dst, lo, hi - lo);
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask(src, dst, lo, mid, !intoDst, threshold),
+                      new SortTask(src, dst, mid, hi, !intoDst, threshold));
+
+            // Halves now live in the buffer opposite to the one we must fill
+            int[] from = intoDst ? src : dst;
+            int[] to = intoDst ? dst : src;
+            new MergeTask(from, lo, mid, from, mid, hi, to, lo, threshold).compute();
+        }
+    }
+
+    /**
+     * Merges a[aLo..aHi) and b[bLo..bHi) into out starting at outLo
+     * Large merges are cut at the output midpoint, whose co-rank is found by binary search
+     */
+    private static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] a;
+        private final int aLo;
+        private final int aHi;
+        private final int[] b;
+        private final int bLo;
+        private final int bHi;
+        private final int[] out;
+        private final int outLo;
+        private final int threshold;
+
+        MergeTask(int[] a, int aLo, int aHi, int[] b, int bLo, int bHi,
+                  int[] out, int outLo, int threshold) {
+            this.a = a;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.b = b;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.out = out;
+            this.outLo = outLo;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int aLen = aHi - aLo;
+            int bLen = bHi - bLo;
+            int total = aLen + bLen;
+
+            if (total <= threshold) {
+                merge(a, aLo, aHi, b, bLo, bHi, out, outLo);
+                return;
+            }
+
+            int k = total / 2;
+            int i = coRank(k, a, aLo, aLen, b, bLo, bLen);
+            int j = k - i;
+
+            invokeAll(new MergeTask(a, aLo, aLo + i, b, bLo, bLo + j, out, outLo, threshold),
+                      new MergeTask(a, aLo + i, aHi, b, bLo + j, bHi, out, outLo + k, threshold));
+        }
+    }
+
+    /**
+     * Number of elements taken from a among the first k outputs of a stable merge of a and b
+     * Ties go to a, matching the sequential merge
+     */
+    static int coRank(int k, int[] a, int aLo, int aLen, int[] b, int bLo, int bLen) {
+        int low = Math.max(0, k - bLen);
+        int high = Math.min(k, aLen);
+
+        // Largest i with a[i - 1] <= b[k - i]
+        while (low < high) {
+            int i = (low + high + 1) >>> 1;
+            int j = k - i;
+            if (a[aLo + i - 1] > b[bLo + j]) {
+                high = i - 1;
+            } else {
+                low = i;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sequential merge of two sorted ranges into out
+     */
+    static void merge(int[] a, int aLo, int aHi, int[] b, int bLo, int bHi, int[] out, int outLo) {
+        int i = aLo;
+        int j = bLo;
+        int k = outLo;
+
+        while (i < aHi && j < bHi) {
+            if (a[i] <= b[j]) {
+                out[k++] = a[i++];
+            } else {
+                out[k++] = b[j++];
+            }
+        }
+
+        // Copy remaining elements of whichever range is left
+        if (i < aHi) {
+            System.arraycopy(a, i, out, k, aHi - i);
+        } else if (j < bHi) {
+            System.arraycopy(b, j, out, k, bHi - j);
+        }
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel MergeSort";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,490 @@
+package parallel;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Natural (run-adaptive) parallel MergeSort
+ * Time Complexity: O(n) on sorted or strictly descending input, O(n log r) for r runs,
+ * O(n log n) worst case
+ * Space Complexity: O(n), borrowed from the per-thread ScratchArena
+ * Segments of the array are scanned in parallel for existing runs: non-descending runs are kept,
+ * strictly descending runs are reversed in place, and runs shorter than MIN_RUN are extended by
+ * binary insertion. Runs that continue across a segment boundary are then joined, so presorted
+ * input is not split into one run per segment. Runs are then merged pairwise, round by round, with
+ * independent pairs and the halves of large merges running in parallel. Merges gallop in the style
+ * of TimSort, so a merge of a long run with a short one costs little more than copying.
+ */
+public class NaturalMergeSort {
+
+    /**
+     * Runs shorter than this are extended by binary insertion
+     */
+    private static final int MIN_RUN = 32;
+
+    /**
+     * Consecutive wins by one side after which a merge switches to galloping
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * Minimum number of elements per parallel run-detection segment
+     */
+    private static final int MIN_SEGMENT = 1 << 16;
+
+    /**
+     * Default merge size below which merges run sequentially
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Public method to sort array on the common pool
+     */
+    public static void sort(int[] arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort array on a dedicated pool with the given number of workers
+     */
+    public static void sort(int[] arr, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            sort(arr, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Sort array on the given pool
+     */
+    public static void sort(int[] arr, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int n = arr.length;
+
+        int segments = Math.max(1, Math.min(pool.getParallelism(), n / MIN_SEGMENT));
+        int[][] segmentBounds = new int[segments][];
+        pool.invoke(new RunTask(arr, segmentBounds, 0, segments));
+
+        // Concatenate per-segment run starts into bounds[0..runs], with bounds[runs] == n
+        int runs = 0;
+        for (int[] starts : segmentBounds) {
+            runs += starts.length;
+        }
+        int[] bounds = new int[runs + 1];
+        int next = 0;
+        for (int[] starts : segmentBounds) {
+            System.arraycopy(starts, 0, bounds, next, starts.length);
+            next += starts.length;
+        }
+        bounds[runs] = n;
+        runs = joinRuns(arr, bounds, runs, pool);
+        if (runs == 1) {
+            return;
+        }
+
+        int[] scratch = sequential.ScratchArena.borrow(n);
+        try {
+            int[] src = arr;
+            int[] dst = scratch;
+            while (runs > 1) {
+                int pairs = (runs + 1) / 2;
+                pool.invoke(new RoundTask(src, dst, bounds, runs, 0, pairs));
+
+                for (int p = 0; p < pairs; p++) {
+                    bounds[p] = bounds[2 * p];
+                }
+                bounds[pairs] = n;
+                runs = pairs;
+
+                int[] swap = src;
+                src = dst;
+                dst = swap;
+            }
+            if (src != arr) {
+                System.arraycopy(src, 0, arr, 0, n);
+            }
+        } finally {
+            sequential.ScratchArena.release(scratch);
+        }
+    }
+
+    /**
+     * Join neighbouring runs that are already in order across their boundary
+     * A stretch of runs each lying strictly below the run before it, as reversed input leaves
+     * them segment by segment, is put in order by copying the runs out in reverse order and back;
+     * strictness keeps equal keys in their original order. Every boundary with
+     * arr[start - 1] <= arr[start] is then dropped.
+     * @return number of runs left, with bounds[runs] == n
+     */
+    private static int joinRuns(int[] arr, int[] bounds, int runs, ForkJoinPool pool) {
+        for (int first = 0; first < runs; ) {
+            int end = first + 1;
+            while (end < runs && arr[bounds[end + 1] - 1] < arr[bounds[end - 1]]) {
+                end++;
+            }
+            if (end - first > 1) {
+                reverseRuns(arr, bounds, first, end, pool);
+            }
+            first = end;
+        }
+
+        int kept = 1;
+        for (int run = 1; run < runs; run++) {
+            int start = bounds[run];
+            if (arr[start - 1] > arr[start]) {
+                bounds[kept++] = start;
+            }
+        }
+        bounds[kept] = bounds[runs];
+        return kept;
+    }
+
+    /**
+     * Reverse the order of runs [first, end), keeping each run's contents in order
+     */
+    private static void reverseRuns(int[] arr, int[] bounds, int first, int end, ForkJoinPool pool) {
+        int lo = bounds[first];
+        int hi = bounds[end];
+        int[] scratch = sequential.ScratchArena.borrow(hi - lo);
+        try {
+            pool.invoke(new RangeTask(lo, hi, (from, to) -> {
+                // Block [from, to) of the old layout moves to the mirror image of its run
+                int run = Arrays.binarySearch(bounds, first, end + 1, from);
+                run = run >= 0 ? run : -run - 2;
+                for (int i = from; i < to; run++) {
+                    int runEnd = Math.min(to, bounds[run + 1]);
+                    int target = lo + hi - bounds[run + 1] + (i - bounds[run]);
+                    System.arraycopy(arr, i, scratch, target - lo, runEnd - i);
+                    i = runEnd;
+                }
+            }));
+            pool.invoke(new RangeTask(lo, hi, (from, to) ->
+                    System.arraycopy(scratch, from - lo, arr, from, to - from)));
+        } finally {
+            sequential.ScratchArena.release(scratch);
+        }
+    }
+
+    /**
+     * Finds the runs of each segment in [firstSegment, endSegment), storing their start indices
+     */
+    private static class RunTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int[][] segmentBounds;
+        private final int firstSegment;
+        private final int endSegment;
+
+        RunTask(int[] arr, int[][] segmentBounds, int firstSegment, int endSegment) {
+            this.arr = arr;
+            this.segmentBounds = segmentBounds;
+            this.firstSegment = firstSegment;
+            this.endSegment = endSegment;
+        }
+
+        @Override
+        protected void compute() {
+            if (endSegment - firstSegment > 1) {
+                int mid = (firstSegment + endSegment) >>> 1;
+                invokeAll(new RunTask(arr, segmentBounds, firstSegment, mid),
+                          new RunTask(arr, segmentBounds, mid, endSegment));
+                return;
+            }
+
+            int segments = segmentBounds.length;
+            int lo = (int) ((long) arr.length * firstSegment / segments);
+            int hi = (int) ((long) arr.length * (firstSegment + 1) / segments);
+            segmentBounds[firstSegment] = findRuns(arr, lo, hi);
+        }
+    }
+
+    /**
+     * Normalize arr[lo..hi) into ascending runs of at least MIN_RUN elements (except the last)
+     * @return start index of each run
+     */
+    private static int[] findRuns(int[] arr, int lo, int hi) {
+        int[] starts = new int[16];
+        int count = 0;
+
+        int start = lo;
+        while (start < hi) {
+            int end = start + 1;
+            if (end < hi && arr[end] < arr[start]) {
+                while (end < hi && arr[end] < arr[end - 1]) {
+                    end++;
+                }
+                // Strictly descending, so reversing keeps equal keys in order
+                reverse(arr, start, end - 1);
+            } else {
+                while (end < hi && arr[end] >= arr[end - 1]) {
+                    end++;
+                }
+            }
+
+            if (end - start < MIN_RUN) {
+                int forced = Math.min(hi, start + MIN_RUN);
+                binaryInsertionSort(arr, start, forced, end);
+                end = forced;
+            }
+
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+            }
+            starts[count++] = start;
+            start = end;
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * Reverse arr[low..high] in place
+     */
+    private static void reverse(int[] arr, int low, int high) {
+        while (low < high) {
+            int temp = arr[low];
+            arr[low++] = arr[high];
+            arr[high--] = temp;
+        }
+    }
+
+    /**
+     * Sort arr[lo..hi) given that arr[lo..sorted) is already sorted, placing each further element
+     * after its equals with a binary search
+     */
+    private static void binaryInsertionSort(int[] arr, int lo, int hi, int sorted) {
+        for (int i = sorted; i < hi; i++) {
+            int key = arr[i];
+            int left = lo;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (arr[mid] <= key) {
+                    left = mid + 1;
+                } else {
+                    right = mid;
+                }
+            }
+            System.arraycopy(arr, left, arr, left + 1, i - left);
+            arr[left] = key;
+        }
+    }
+
+    /**
+     * Merges the run pairs [firstPair, endPair) of one round from src into dst
+     * Pair p holds runs 2p and 2p + 1; an unpaired last run is copied across
+     */
+    private static class RoundTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int[] bounds;
+        private final int runs;
+        private final int firstPair;
+        private final int endPair;
+
+        RoundTask(int[] src, int[] dst, int[] bounds, int runs, int firstPair, int endPair) {
+            this.src = src;
+            this.dst = dst;
+            this.bounds = bounds;
+            this.runs = runs;
+            this.firstPair = firstPair;
+            this.endPair = endPair;
+        }
+
+        @Override
+        protected void compute() {
+            // Split while there are several pairs and enough elements to be worth a task
+            int elements = bounds[Math.min(2 * endPair, runs)] - bounds[2 * firstPair];
+            if (endPair - firstPair > 1 && elements > DEFAULT_THRESHOLD) {
+                int mid = (firstPair + endPair) >>> 1;
+                invokeAll(new RoundTask(src, dst, bounds, runs, firstPair, mid),
+                          new RoundTask(src, dst, bounds, runs, mid, endPair));
+                return;
+            }
+
+            for (int pair = firstPair; pair < endPair; pair++) {
+                int lo = bounds[2 * pair];
+                if (2 * pair + 1 >= runs) {
+                    System.arraycopy(src, lo, dst, lo, bounds[runs] - lo);
+                    continue;
+                }
+                int mid = bounds[2 * pair + 1];
+                int hi = bounds[2 * pair + 2];
+                new MergeTask(src, lo, mid, src, mid, hi, dst, lo).compute();
+            }
+        }
+    }
+
+    /**
+     * Merges a[aLo..aHi) and b[bLo..bHi) into out starting at outLo
+     * Large merges are cut at the output midpoint, whose co-rank is found by binary search
+     */
+    private static class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] a;
+        private final int aLo;
+        private final int aHi;
+        private final int[] b;
+        private final int bLo;
+        private final int bHi;
+        private final int[] out;
+        private final int outLo;
+
+        MergeTask(int[] a, int aLo, int aHi, int[] b, int bLo, int bHi, int[] out, int outLo) {
+            this.a = a;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.b = b;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.out = out;
+            this.outLo = outLo;
+        }
+
+        @Override
+        protected void compute() {
+            int aLen = aHi - aLo;
+            int bLen = bHi - bLo;
+            int total = aLen + bLen;
+
+            if (total <= DEFAULT_THRESHOLD || aLen == 0 || bLen == 0 || a[aHi - 1] <= b[bLo]) {
+                gallopMerge(a, aLo, aHi, b, bLo, bHi, out, outLo);
+                return;
+            }
+
+            int k = total / 2;
+            int i = MergeSort.coRank(k, a, aLo, aLen, b, bLo, bLen);
+            int j = k - i;
+
+            invokeAll(new MergeTask(a, aLo, aLo + i, b, bLo, bLo + j, out, outLo),
+                      new MergeTask(a, aLo + i, aHi, b, bLo + j, bHi, out, outLo + k));
+        }
+    }
+
+    /**
+     * Stable merge of a[aLo..aHi) and b[bLo..bHi) into out, ties to a
+     * After MIN_GALLOP consecutive wins by one side, exponential searches find how far that
+     * side keeps winning and the whole stretch is copied at once. The threshold adapts: it
+     * drops while galloping pays off and rises when it stops paying.
+     */
+    static void gallopMerge(int[] a, int aLo, int aHi, int[] b, int bLo, int bHi, int[] out, int outLo) {
+        int i = aLo;
+        int j = bLo;
+        int k = outLo;
+
+        // Prefix of a that precedes b entirely, and suffix of b that follows a entirely
+        if (i < aHi && j < bHi) {
+            int aPrefix = gallop(b[j], a, i, aHi, true) - i;
+            System.arraycopy(a, i, out, k, aPrefix);
+            i += aPrefix;
+            k += aPrefix;
+        }
+        int bEnd = bHi;
+        if (i < aHi && j < bHi) {
+            bHi = gallop(a[aHi - 1], b, j, bHi, false);
+        }
+
+        int minGallop = MIN_GALLOP;
+        while (i < aHi && j < bHi) {
+            // One element at a time until one side wins minGallop times in a row
+            int aWins = 0;
+            int bWins = 0;
+            do {
+                if (a[i] <= b[j]) {
+                    out[k++] = a[i++];
+                    aWins++;
+                    bWins = 0;
+                } else {
+                    out[k++] = b[j++];
+                    bWins++;
+                    aWins = 0;
+                }
+            } while (i < aHi && j < bHi && aWins < minGallop && bWins < minGallop);
+
+            // Galloping: copy whole stretches while they stay long
+            while (i < aHi && j < bHi) {
+                int aRun = gallop(b[j], a, i, aHi, true) - i;
+                System.arraycopy(a, i, out, k, aRun);
+                i += aRun;
+                k += aRun;
+                if (i >= aHi) {
+                    break;
+                }
+
+                int bRun = gallop(a[i], b, j, bHi, false) - j;
+                System.arraycopy(b, j, out, k, bRun);
+                j += bRun;
+                k += bRun;
+                if (j >= bHi) {
+                    break;
+                }
+
+                if (aRun < MIN_GALLOP && bRun < MIN_GALLOP) {
+                    minGallop += 2;
+                    break;
+                }
+                minGallop = Math.max(1, minGallop - 1);
+            }
+        }
+
+        if (i < aHi) {
+            System.arraycopy(a, i, out, k, aHi - i);
+            k += aHi - i;
+        }
+        // Rest of b, including the trimmed suffix already known to follow everything in a
+        System.arraycopy(b, j, out, k, bEnd - j);
+    }
+
+    /**
+     * First index x in [lo, hi) with arr[x] > key (orEqual) or arr[x] >= key (otherwise),
+     * or hi if there is none; probes lo + 1, lo + 3, lo + 7 ... before a binary search
+     */
+    static int gallop(int key, int[] arr, int lo, int hi, boolean orEqual) {
+        int n = hi - lo;
+        if (n == 0 || !precedes(arr[lo], key, orEqual)) {
+            return lo;
+        }
+
+        // arr[lo + known] precedes key; widen the step until an element does not
+        int known = 0;
+        int step = 1;
+        while (known + step < n && precedes(arr[lo + known + step], key, orEqual)) {
+            known += step;
+            step <<= 1;
+        }
+
+        int left = lo + known + 1;
+        int right = lo + Math.min(n, known + step);
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (precedes(arr[mid], key, orEqual)) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Whether value goes before key: value <= key when orEqual, else value < key
+     */
+    private static boolean precedes(int value, int key, boolean orEqual) {
+        return orEqual ? value <= key : value < key;
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel NaturalMergeSort";
+    }
+}
\ No newline at end of file
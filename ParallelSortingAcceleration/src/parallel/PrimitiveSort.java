@@ -0,0 +1,301 @@
+package parallel;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Primitive-specialized parallel sorts for long[], double[] and float[] keys, plus argsort
+ * Everything runs on the parallel LSD radix sort of RadixPasses over 8-bit digits, with no
+ * boxing. Floating-point keys are mapped to integers whose signed order is the order used by
+ * Arrays.sort: -0.0 before 0.0, and every NaN (canonicalized) after positive infinity; the
+ * mapping in and out runs in parallel blocks too. argsort returns the stable index permutation
+ * that sorts the keys, leaving the keys untouched.
+ * Time Complexity: O(n) per digit pass, 4 passes for 32-bit keys and 8 for 64-bit keys
+ * Space Complexity: O(n)
+ * Pass a pool with parallelism 1 for the sequential variant.
+ */
+public class PrimitiveSort {
+
+    private static final int INT_PASSES = Integer.SIZE / RadixPasses.DIGIT_BITS;
+    private static final int LONG_PASSES = Long.SIZE / RadixPasses.DIGIT_BITS;
+
+    /**
+     * Minimum number of elements per block
+     */
+    private static final int MIN_BLOCK = 1 << 16;
+
+    /**
+     * Sort long array on the common pool
+     */
+    public static void sort(long[] arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort long array on the given pool
+     */
+    public static void sort(long[] arr, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        radixSort(arr, null, LONG_PASSES, pool);
+    }
+
+    /**
+     * Sort double array on the common pool, ordered as Arrays.sort(double[])
+     */
+    public static void sort(double[] arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort double array on the given pool, ordered as Arrays.sort(double[])
+     */
+    public static void sort(double[] arr, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        long[] keys = new long[arr.length];
+        pool.invoke(new RangeTask(0, arr.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = toSortable(arr[i]);
+            }
+        }));
+        radixSort(keys, null, LONG_PASSES, pool);
+        pool.invoke(new RangeTask(0, arr.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = fromSortable(keys[i]);
+            }
+        }));
+    }
+
+    /**
+     * Sort float array on the common pool, ordered as Arrays.sort(float[])
+     */
+    public static void sort(float[] arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort float array on the given pool, ordered as Arrays.sort(float[])
+     */
+    public static void sort(float[] arr, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int[] keys = new int[arr.length];
+        pool.invoke(new RangeTask(0, arr.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = toSortable(arr[i]);
+            }
+        }));
+        RadixSort.sort(keys, pool);
+        pool.invoke(new RangeTask(0, arr.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = fromSortable(keys[i]);
+            }
+        }));
+    }
+
+    /**
+     * Stable permutation p such that arr[p[0]] <= arr[p[1]] <= ...
+     */
+    public static int[] argsort(int[] arr) {
+        return argsort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Stable argsort of int keys on the given pool
+     */
+    public static int[] argsort(int[] arr, ForkJoinPool pool) {
+        long[] keys = new long[arr.length];
+        pool.invoke(new RangeTask(0, arr.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = arr[i];
+            }
+        }));
+        return argsort(keys, INT_PASSES, pool);
+    }
+
+    /**
+     * Stable argsort of long keys on the common pool
+     */
+    public static int[] argsort(long[] arr) {
+        return argsort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Stable argsort of long keys on the given pool
+     */
+    public static int[] argsort(long[] arr, ForkJoinPool pool) {
+        long[] keys = new long[arr.length];
+        pool.invoke(new RangeTask(0, arr.length, (from, to) -> System.arraycopy(arr, from, keys, from, to - from)));
+        return argsort(keys, LONG_PASSES, pool);
+    }
+
+    /**
+     * Stable argsort of double keys on the common pool, ordered as Arrays.sort(double[])
+     */
+    public static int[] argsort(double[] arr) {
+        return argsort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Stable argsort of double keys on the given pool
+     */
+    public static int[] argsort(double[] arr, ForkJoinPool pool) {
+        long[] keys = new long[arr.length];
+        pool.invoke(new RangeTask(0, arr.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = toSortable(arr[i]);
+            }
+        }));
+        return argsort(keys, LONG_PASSES, pool);
+    }
+
+    /**
+     * Stable argsort of float keys on the common pool, ordered as Arrays.sort(float[])
+     */
+    public static int[] argsort(float[] arr) {
+        return argsort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Stable argsort of float keys on the given pool
+     */
+    public static int[] argsort(float[] arr, ForkJoinPool pool) {
+        long[] keys = new long[arr.length];
+        pool.invoke(new RangeTask(0, arr.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = toSortable(arr[i]);
+            }
+        }));
+        return argsort(keys, INT_PASSES, pool);
+    }
+
+    /**
+     * Sorts a scratch copy of the keys together with the identity permutation
+     */
+    private static int[] argsort(long[] keys, int passes, ForkJoinPool pool) {
+        int[] indices = new int[keys.length];
+        pool.invoke(new RangeTask(0, indices.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                indices[i] = i;
+            }
+        }));
+        if (keys.length > 1) {
+            radixSort(keys, indices, passes, pool);
+        }
+        return indices;
+    }
+
+    /**
+     * Map a double to a long whose signed order matches Arrays.sort(double[])
+     * Negative values have their magnitude bits inverted; NaNs are canonicalized first
+     */
+    static long toSortable(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Inverse of toSortable(double)
+     */
+    static double fromSortable(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    /**
+     * Map a float to an int whose signed order matches Arrays.sort(float[])
+     */
+    static int toSortable(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Inverse of toSortable(float)
+     */
+    static float fromSortable(int key) {
+        return Float.intBitsToFloat(key ^ ((key >> 31) & Integer.MAX_VALUE));
+    }
+
+    /**
+     * Parallel LSD radix sort of the low passes * 8 bits of keys, read as a signed value,
+     * moving payload along with the keys when it is not null
+     * Stable, so ColumnarSort chains it over packed key columns.
+     */
+    static void radixSort(long[] keys, int[] payload, int passes, ForkJoinPool pool) {
+        int n = keys.length;
+        LongKeys sorting = new LongKeys(keys, new long[n], payload, payload == null ? null : new int[n]);
+        RadixPasses.sort(sorting, passes, MIN_BLOCK, pool);
+
+        if (sorting.keySrc != keys) {
+            System.arraycopy(sorting.keySrc, 0, keys, 0, n);
+            if (payload != null) {
+                System.arraycopy(sorting.paySrc, 0, payload, 0, n);
+            }
+        }
+    }
+
+    /**
+     * long keys with an optional int payload, each with its ping-pong buffer
+     */
+    private static final class LongKeys implements RadixPasses.Keys {
+        long[] keySrc;
+        long[] keyDst;
+        int[] paySrc;
+        int[] payDst;
+
+        LongKeys(long[] keySrc, long[] keyDst, int[] paySrc, int[] payDst) {
+            this.keySrc = keySrc;
+            this.keyDst = keyDst;
+            this.paySrc = paySrc;
+            this.payDst = payDst;
+        }
+
+        @Override
+        public long length() {
+            return keySrc.length;
+        }
+
+        @Override
+        public void count(long from, long to, int shift, boolean signed, long[] counts) {
+            long[] keySrc = this.keySrc;
+            for (int i = (int) from, end = (int) to; i < end; i++) {
+                counts[RadixPasses.digit(keySrc[i], shift, signed)]++;
+            }
+        }
+
+        @Override
+        public void scatter(long from, long to, int shift, boolean signed, long[] offsets) {
+            long[] keySrc = this.keySrc;
+            long[] keyDst = this.keyDst;
+            int[] next = RadixPasses.intOffsets(offsets);
+            if (paySrc == null) {
+                for (int i = (int) from, end = (int) to; i < end; i++) {
+                    long key = keySrc[i];
+                    keyDst[next[RadixPasses.digit(key, shift, signed)]++] = key;
+                }
+                return;
+            }
+            int[] paySrc = this.paySrc;
+            int[] payDst = this.payDst;
+            for (int i = (int) from, end = (int) to; i < end; i++) {
+                long key = keySrc[i];
+                int target = next[RadixPasses.digit(key, shift, signed)]++;
+                keyDst[target] = key;
+                payDst[target] = paySrc[i];
+            }
+        }
+
+        @Override
+        public void flip() {
+            long[] keySwap = keySrc;
+            keySrc = keyDst;
+            keyDst = keySwap;
+            int[] paySwap = paySrc;
+            paySrc = payDst;
+            payDst = paySwap;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package parallel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel QuickSort implementation using three-way (Dutch national flag) partitioning
+ * Average Time Complexity: O(n log n), O(n) when there are only a few distinct keys
+ * Worst Case: O(n²)
+ * Space Complexity: O(log n)
+ * Keys equal to the pivot are never recursed into, so duplicate-heavy inputs stay fast
+ */
+public class QuickSort {
+
+    /**
+     * Default subarray size below which partitions are sorted sequentially
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Subarray size below which insertion sort is used
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Public method to sort array on the common pool
+     */
+    public static void sort(int[] arr) {
+        sort(arr, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sort array on a dedicated pool with the given number of workers
+     */
+    public static void sort(int[] arr, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            sort(arr, pool, DEFAULT_THRESHOLD);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Sort array on the given pool, forking tasks only above threshold elements
+     */
+    public static void sort(int[] arr, ForkJoinPool pool, int threshold) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        pool.invoke(new SortTask(arr, 0, arr.length - 1, threshold));
+    }
+
+    /**
+     * Sorts arr[low..high] (inclusive)
+     * The smaller side is forked and the larger one handled in a loop, which keeps the
+     * stack depth at O(log n) even when a worker ends up running its own forks inline
+     */
+    private static class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int low;
+        private final int high;
+        private final int threshold;
+
+        // Previously forked sibling, so every fork can be joined once the loop ends
+        private SortTask next;
+
+        SortTask(int[] arr, int low, int high, int threshold) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int low = this.low;
+            int high = this.high;
+            SortTask forked = null;
+
+            while (high - low + 1 > threshold) {
+                long bounds = partition(arr, low, high);
+                int lt = (int) (bounds >>> 32);
+                int gt = (int) bounds;
+
+                SortTask task;
+                if (lt - low < high - gt) {
+                    task = new SortTask(arr, low, lt - 1, threshold);
+                    low = gt + 1;
+                } else {
+                    task = new SortTask(arr, gt + 1, high, threshold);
+                    high = lt - 1;
+                }
+                task.next = forked;
+                forked = task;
+                task.fork();
+            }
+
+            quickSort(arr, low, high);
+
+            for (SortTask task = forked; task != null; task = task.next) {
+                task.join();
+            }
+        }
+    }
+
+    /**
+     * Sequentially sort the subrange arr[low..high] (inclusive)
+     */
+    static void sortRange(int[] arr, int low, int high) {
+        quickSort(arr, low, high);
+    }
+
+    /**
+     * Sequential three-way quicksort, recursing into the smaller side first
+     */
+    private static void quickSort(int[] arr, int low, int high) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            long bounds = partition(arr, low, high);
+            int lt = (int) (bounds >>> 32);
+            int gt = (int) bounds;
+
+            // Recursively sort the smaller partition first
+            // This limits stack depth to O(log n)
+            if (lt - low < high - gt) {
+                quickSort(arr, low, lt - 1);
+                low = gt + 1;
+            } else {
+                quickSort(arr, gt + 1, high);
+                high = lt - 1;
+            }
+        }
+        insertionSort(arr, low, high);
+    }
+
+    /**
+     * Three-way partition around a median-of-three pivot
+     * Afterwards arr[low..lt-1] < pivot, arr[lt..gt] == pivot and arr[gt+1..high] > pivot
+     * @return lt in the upper 32 bits and gt in the lower 32 bits
+     */
+    private static long partition(int[] arr, int low, int high) {
+        int pivot = medianOfThree(arr[low], arr[low + (high - low) / 2], arr[high]);
+
+        int lt = low;
+        int i = low;
+        int gt = high;
+
+        while (i <= gt) {
+            int value = arr[i];
+            if (value < pivot) {
+                swap(arr, lt++, i++);
+            } else if (value > pivot) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Median of three values
+     */
+    private static int medianOfThree(int a, int b, int c) {
+        if (a < b) {
+            return b < c ? b : Math.max(a, c);
+        }
+        return a < c ? a : Math.max(b, c);
+    }
+
+    /**
+     * Insertion sort for small ranges
+     */
+    private static void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Swap two elements in array
+     */
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel QuickSort";
+    }
+}
\ No newline at end of file
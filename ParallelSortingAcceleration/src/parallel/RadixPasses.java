@@ -0,0 +1,186 @@
+package parallel;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Shared driver of the parallel LSD radix sorts: RadixSort, PrimitiveSort and OffHeapRadixSort
+ * The keys are cut into at most one block per worker. Every pass counts 8-bit digits per block,
+ * turns the counts into per-block output offsets (digit-major, block-minor, which keeps the
+ * scatter stable), and scatters each block into the scratch buffer. A pass in which every key
+ * has the same digit would be an identity copy and is skipped. The top digit of the last pass
+ * has its sign bit flipped, so signed keys order negative before positive.
+ * The element type lives in the Keys implementation, whose count and scatter loops run once per
+ * block; the per-element loops stay monomorphic and free of boxing.
+ * Time Complexity: O(n) per pass
+ * Space Complexity: O(p * 256) for the histograms; the scratch buffer belongs to the Keys
+ */
+public final class RadixPasses {
+
+    public static final int DIGIT_BITS = 8;
+    public static final int RADIX = 1 << DIGIT_BITS;
+    private static final int MASK = RADIX - 1;
+
+    private RadixPasses() {
+    }
+
+    /**
+     * Keys being sorted together with a scratch buffer of the same length
+     */
+    public interface Keys {
+
+        /**
+         * Number of keys
+         */
+        long length();
+
+        /**
+         * Add the digit of every source key in [from, to) to counts
+         */
+        void count(long from, long to, int shift, boolean signed, long[] counts);
+
+        /**
+         * Move every source key in [from, to), and anything carried with it, to the buffer at
+         * offsets[digit]++
+         */
+        void scatter(long from, long to, int shift, boolean signed, long[] offsets);
+
+        /**
+         * Swap the roles of source and buffer after a pass that scattered
+         */
+        void flip();
+    }
+
+    /**
+     * Run the given number of digit passes over keys on the pool
+     * The sorted keys end up in whichever array is the source after the last flip.
+     * @param minBlock smallest number of keys given its own block
+     */
+    public static void sort(Keys keys, int passes, long minBlock, ForkJoinPool pool) {
+        long n = keys.length();
+        int blocks = (int) Math.max(1, Math.min(pool.getParallelism(), n / minBlock));
+        long[][] offsets = new long[blocks][RADIX];
+
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * DIGIT_BITS;
+            boolean signed = pass == passes - 1;
+
+            pool.invoke(new BlockTask(keys, offsets, 0, blocks, shift, signed, false));
+            if (prefixSums(offsets)) {
+                // Every key shares this digit, the pass would be an identity copy
+                continue;
+            }
+            pool.invoke(new BlockTask(keys, offsets, 0, blocks, shift, signed, true));
+            keys.flip();
+        }
+    }
+
+    /**
+     * Digit of an int key at the given shift, with the sign bit flipped on the top digit
+     */
+    public static int digit(int key, int shift, boolean signed) {
+        int d = (key >>> shift) & MASK;
+        return signed ? d ^ (RADIX >>> 1) : d;
+    }
+
+    /**
+     * Digit of a long key at the given shift, with the sign bit flipped on the top digit
+     */
+    public static int digit(long key, int shift, boolean signed) {
+        int d = (int) (key >>> shift) & MASK;
+        return signed ? d ^ (RADIX >>> 1) : d;
+    }
+
+    /**
+     * Copy of a block's offsets as ints, so scatter loops over int-indexed arrays keep to int
+     * arithmetic
+     */
+    public static int[] intOffsets(long[] offsets) {
+        int[] next = new int[RADIX];
+        for (int digit = 0; digit < RADIX; digit++) {
+            next[digit] = (int) offsets[digit];
+        }
+        return next;
+    }
+
+    /**
+     * Turns per-block digit counts into per-block output offsets, digit-major and block-minor
+     * @return true if all keys share one digit value and the pass can be skipped
+     */
+    private static boolean prefixSums(long[][] offsets) {
+        int nonEmptyDigits = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            long total = 0;
+            for (long[] blockOffsets : offsets) {
+                total += blockOffsets[digit];
+            }
+            if (total > 0) {
+                nonEmptyDigits++;
+            }
+        }
+        if (nonEmptyDigits == 1) {
+            return true;
+        }
+
+        long offset = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            for (long[] blockOffsets : offsets) {
+                long count = blockOffsets[digit];
+                blockOffsets[digit] = offset;
+                offset += count;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits blocks [firstBlock, endBlock) across workers and counts or scatters each one
+     */
+    private static class BlockTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Keys keys;
+        private final long[][] offsets;
+        private final int firstBlock;
+        private final int endBlock;
+        private final int shift;
+        private final boolean signed;
+        private final boolean scatter;
+
+        BlockTask(Keys keys, long[][] offsets, int firstBlock, int endBlock, int shift, boolean signed,
+                  boolean scatter) {
+            this.keys = keys;
+            this.offsets = offsets;
+            this.firstBlock = firstBlock;
+            this.endBlock = endBlock;
+            this.shift = shift;
+            this.signed = signed;
+            this.scatter = scatter;
+        }
+
+        @Override
+        protected void compute() {
+            if (endBlock - firstBlock > 1) {
+                int mid = (firstBlock + endBlock) >>> 1;
+                invokeAll(new BlockTask(keys, offsets, firstBlock, mid, shift, signed, scatter),
+                          new BlockTask(keys, offsets, mid, endBlock, shift, signed, scatter));
+                return;
+            }
+
+            int blocks = offsets.length;
+            long n = keys.length();
+            // Blocks differ in size by at most one key
+            long from = n / blocks * firstBlock + Math.min(firstBlock, n % blocks);
+            long to = from + n / blocks + (firstBlock < n % blocks ? 1 : 0);
+            long[] blockOffsets = offsets[firstBlock];
+
+            if (scatter) {
+                keys.scatter(from, to, shift, signed, blockOffsets);
+            } else {
+                Arrays.fill(blockOffsets, 0);
+                keys.count(from, to, shift, signed, blockOffsets);
+            }
+        }
+    }
+}
\ No newline at end of file
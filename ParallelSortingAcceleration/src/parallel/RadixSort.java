@@ -0,0 +1,110 @@
+package parallel;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel LSD (least significant digit) Radix Sort implementation for int keys
+ * Time Complexity: O(n) - four passes of 8-bit digits, independent of key order
+ * Space Complexity: O(n + p * 256) for one ping-pong buffer and per-worker histograms
+ * Signed keys are handled by flipping the sign bit of the most significant digit
+ * The passes themselves are driven by RadixPasses; this class supplies the int[] loops.
+ */
+public class RadixSort {
+
+    /**
+     * Four passes of 8-bit digits cover a 32-bit key, so the result ends up back in arr
+     */
+    private static final int PASSES = Integer.SIZE / RadixPasses.DIGIT_BITS;
+
+    /**
+     * Minimum number of elements per block; smaller arrays are sorted on one block
+     */
+    public static final int MIN_BLOCK = 1 << 16;
+
+    /**
+     * Public method to sort array on the common pool
+     */
+    public static void sort(int[] arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort array on a dedicated pool with the given number of workers
+     */
+    public static void sort(int[] arr, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            sort(arr, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Sort array on the given pool
+     */
+    public static void sort(int[] arr, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        IntKeys keys = new IntKeys(arr, new int[arr.length]);
+        RadixPasses.sort(keys, PASSES, MIN_BLOCK, pool);
+
+        // An odd number of skipped passes leaves the result in the buffer
+        if (keys.src != arr) {
+            System.arraycopy(keys.src, 0, arr, 0, arr.length);
+        }
+    }
+
+    /**
+     * int keys and their ping-pong buffer
+     */
+    private static final class IntKeys implements RadixPasses.Keys {
+        int[] src;
+        int[] dst;
+
+        IntKeys(int[] src, int[] dst) {
+            this.src = src;
+            this.dst = dst;
+        }
+
+        @Override
+        public long length() {
+            return src.length;
+        }
+
+        @Override
+        public void count(long from, long to, int shift, boolean signed, long[] counts) {
+            int[] src = this.src;
+            for (int i = (int) from, end = (int) to; i < end; i++) {
+                counts[RadixPasses.digit(src[i], shift, signed)]++;
+            }
+        }
+
+        @Override
+        public void scatter(long from, long to, int shift, boolean signed, long[] offsets) {
+            int[] src = this.src;
+            int[] dst = this.dst;
+            int[] next = RadixPasses.intOffsets(offsets);
+            for (int i = (int) from, end = (int) to; i < end; i++) {
+                int key = src[i];
+                dst[next[RadixPasses.digit(key, shift, signed)]++] = key;
+            }
+        }
+
+        @Override
+        public void flip() {
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel RadixSort";
+    }
+}
\ No newline at end of file
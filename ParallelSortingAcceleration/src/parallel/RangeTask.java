@@ -0,0 +1,45 @@
+package parallel;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel loop over [lo, hi): splits the range in halves down to MIN_BLOCK indices and runs the
+ * body on each block
+ * Used for the element-wise passes around the sorts, such as building sortable keys, filling
+ * permutations and gathering columns.
+ */
+class RangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Minimum number of indices per block
+     */
+    static final int MIN_BLOCK = 1 << 15;
+
+    /**
+     * Body of a parallel loop over [from, to)
+     */
+    interface Body {
+        void run(int from, int to);
+    }
+
+    private final int lo;
+    private final int hi;
+    private final Body body;
+
+    RangeTask(int lo, int hi, Body body) {
+        this.lo = lo;
+        this.hi = hi;
+        this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+        if (hi - lo <= MIN_BLOCK) {
+            body.run(lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        invokeAll(new RangeTask(lo, mid, body), new RangeTask(mid, hi, body));
+    }
+}
\ No newline at end of file
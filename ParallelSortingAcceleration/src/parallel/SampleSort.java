@@ -0,0 +1,227 @@
+package parallel;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel Sample Sort implementation
+ * Average Time Complexity: O(n log n) work, one all-to-all pass then independent bucket sorts
+ * Space Complexity: O(n) for the scatter buffer
+ * Splitters are picked from an oversampled random sample. A splitter value that repeats in the
+ * sample gets its own equality bucket, which is never sorted, so heavy duplicates cost nothing.
+ * Buckets are sorted with the sequential three-way QuickSort, which stays linear on runs of
+ * equal keys that did not make it into the splitters
+ */
+public class SampleSort {
+
+    /**
+     * Sample elements drawn per bucket
+     */
+    private static final int OVERSAMPLING = 64;
+
+    /**
+     * Arrays below this size are sorted directly with the three-way QuickSort
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 15;
+
+    /**
+     * Public method to sort array on the common pool
+     */
+    public static void sort(int[] arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort array on a dedicated pool with the given number of workers
+     */
+    public static void sort(int[] arr, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            sort(arr, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Sort array on the given pool, using one bucket and one input block per worker
+     */
+    public static void sort(int[] arr, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        int n = arr.length;
+        int p = pool.getParallelism();
+        if (n < SEQUENTIAL_THRESHOLD || p == 1) {
+            QuickSort.sortRange(arr, 0, n - 1);
+            return;
+        }
+
+        int[] splitters = chooseSplitters(arr, p);
+        int buckets = 2 * splitters.length + 1;
+        int blocks = p;
+
+        // Classify: per-block bucket counts
+        int[][] counts = new int[blocks][buckets];
+        pool.invoke(new BlockTask(arr, null, splitters, counts, 0, blocks));
+
+        // Bucket-major, block-minor prefix sums give every block its own write cursor per bucket
+        int[] bucketStart = new int[buckets + 1];
+        int offset = 0;
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b] = offset;
+            for (int[] blockCounts : counts) {
+                int count = blockCounts[b];
+                blockCounts[b] = offset;
+                offset += count;
+            }
+        }
+        bucketStart[buckets] = n;
+
+        // Scatter into the buffer, then sort buckets independently back into arr
+        int[] buffer = new int[n];
+        pool.invoke(new BlockTask(arr, buffer, splitters, counts, 0, blocks));
+        pool.invoke(new BucketTask(buffer, arr, bucketStart, 0, buckets));
+    }
+
+    /**
+     * Sort-based splitter selection from a random sample of about p * OVERSAMPLING keys
+     * Consecutive equal splitters are collapsed, so the result is strictly increasing
+     */
+    private static int[] chooseSplitters(int[] arr, int p) {
+        int sampleSize = (int) Math.min(arr.length, (long) p * OVERSAMPLING);
+        int[] sample = new int[sampleSize];
+        SplittableRandom random = new SplittableRandom(arr.length);
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = arr[random.nextInt(arr.length)];
+        }
+        QuickSort.sortRange(sample, 0, sampleSize - 1);
+
+        int[] splitters = new int[p - 1];
+        int count = 0;
+        for (int i = 1; i < p; i++) {
+            int candidate = sample[i * sampleSize / p];
+            if (count == 0 || splitters[count - 1] != candidate) {
+                splitters[count++] = candidate;
+            }
+        }
+        return Arrays.copyOf(splitters, count);
+    }
+
+    /**
+     * Bucket of key: 2i for keys strictly between splitters i-1 and i, 2i+1 for keys equal to
+     * splitter i
+     */
+    private static int bucketOf(int key, int[] splitters) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (splitters[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < splitters.length && splitters[low] == key ? 2 * low + 1 : 2 * low;
+    }
+
+    /**
+     * Counts bucket sizes per block when dst is null, otherwise scatters each block into dst
+     * using the per-block write cursors left in counts by the prefix sum
+     */
+    private static class BlockTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int[] splitters;
+        private final int[][] counts;
+        private final int firstBlock;
+        private final int endBlock;
+
+        BlockTask(int[] src, int[] dst, int[] splitters, int[][] counts, int firstBlock, int endBlock) {
+            this.src = src;
+            this.dst = dst;
+            this.splitters = splitters;
+            this.counts = counts;
+            this.firstBlock = firstBlock;
+            this.endBlock = endBlock;
+        }
+
+        @Override
+        protected void compute() {
+            if (endBlock - firstBlock > 1) {
+                int mid = (firstBlock + endBlock) >>> 1;
+                invokeAll(new BlockTask(src, dst, splitters, counts, firstBlock, mid),
+                          new BlockTask(src, dst, splitters, counts, mid, endBlock));
+                return;
+            }
+
+            int blocks = counts.length;
+            int from = (int) ((long) src.length * firstBlock / blocks);
+            int to = (int) ((long) src.length * (firstBlock + 1) / blocks);
+            int[] blockCounts = counts[firstBlock];
+
+            if (dst == null) {
+                for (int i = from; i < to; i++) {
+                    blockCounts[bucketOf(src[i], splitters)]++;
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    int key = src[i];
+                    dst[blockCounts[bucketOf(key, splitters)]++] = key;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies buckets [firstBucket, endBucket) from src back to dst and sorts them there
+     * Odd buckets hold a single repeated key and are only copied
+     */
+    private static class BucketTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int[] bucketStart;
+        private final int firstBucket;
+        private final int endBucket;
+
+        BucketTask(int[] src, int[] dst, int[] bucketStart, int firstBucket, int endBucket) {
+            this.src = src;
+            this.dst = dst;
+            this.bucketStart = bucketStart;
+            this.firstBucket = firstBucket;
+            this.endBucket = endBucket;
+        }
+
+        @Override
+        protected void compute() {
+            if (endBucket - firstBucket > 1) {
+                int mid = (firstBucket + endBucket) >>> 1;
+                invokeAll(new BucketTask(src, dst, bucketStart, firstBucket, mid),
+                          new BucketTask(src, dst, bucketStart, mid, endBucket));
+                return;
+            }
+
+            int from = bucketStart[firstBucket];
+            int to = bucketStart[firstBucket + 1];
+            System.arraycopy(src, from, dst, from, to - from);
+            if ((firstBucket & 1) == 0 && to - from > 1) {
+                QuickSort.sortRange(dst, from, to - 1);
+            }
+        }
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel SampleSort";
+    }
+}
\ No newline at end of file
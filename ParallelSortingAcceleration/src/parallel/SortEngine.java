@@ -0,0 +1,253 @@
+package parallel;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Adaptive front door that picks a sorting strategy from cheap input statistics
+ * One early-exit scan counts ascending/descending steps, and a small strided sample estimates
+ * the key range and duplicate ratio. Sorted and reversed inputs finish in O(n), nearly sorted
+ * inputs are merged run by run, narrow key ranges are counted, and everything else goes to the
+ * comparison or radix sort that suits its size and duplicate ratio.
+ */
+public class SortEngine {
+
+    /**
+     * Strategies the engine can dispatch to
+     */
+    public enum Strategy {
+        NONE,
+        REVERSE,
+        INSERTION,
+        RUN_MERGE,
+        COUNTING,
+        SEQUENTIAL_QUICK,
+        THREE_WAY_QUICK,
+        PARALLEL_RADIX
+    }
+
+    /**
+     * Arrays up to this size are insertion sorted
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * Arrays from this size on are sorted in parallel when more than one worker is available
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    /**
+     * Inputs with at most n / RUN_DIVISOR descents (or ascents) count as nearly sorted
+     */
+    private static final int RUN_DIVISOR = 32;
+
+    /**
+     * Number of strided elements inspected for range and duplicate estimates
+     */
+    private static final int SAMPLE_SIZE = 1024;
+
+    /**
+     * Largest key range counted directly, bounding the count array to 16 MB
+     */
+    private static final int MAX_COUNTING_RANGE = 1 << 22;
+
+    /**
+     * Sampled duplicate ratio above which the three-way QuickSort is preferred
+     */
+    private static final double DUPLICATE_RATIO = 0.25;
+
+    /**
+     * Public method to sort array on the common pool
+     */
+    public static void sort(int[] arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort array, running any parallel strategy on the given pool
+     */
+    public static void sort(int[] arr, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        switch (choose(arr, pool.getParallelism())) {
+            case NONE:
+                break;
+            case REVERSE:
+                reverse(arr, 0, arr.length - 1);
+                break;
+            case INSERTION:
+                insertionSort(arr);
+                break;
+            case RUN_MERGE:
+                runMerge(arr, pool);
+                break;
+            case COUNTING:
+                countingSort(arr);
+                break;
+            case SEQUENTIAL_QUICK:
+                // IntroSort, not the plain median-of-three QuickSort: inputs may be adversarial
+                sequential.IntroSort.sort(arr);
+                break;
+            case THREE_WAY_QUICK:
+                QuickSort.sort(arr, pool, QuickSort.DEFAULT_THRESHOLD);
+                break;
+            case PARALLEL_RADIX:
+                RadixSort.sort(arr, pool);
+                break;
+        }
+    }
+
+    /**
+     * Pick the strategy sort would use for arr with the given number of workers
+     */
+    public static Strategy choose(int[] arr, int parallelism) {
+        int n = arr.length;
+        if (n <= 1) {
+            return Strategy.NONE;
+        }
+
+        // Order: one pass counting steps down and up, abandoned once both are frequent
+        int limit = n / RUN_DIVISOR;
+        int descents = 0;
+        int ascents = 0;
+        for (int i = 1; i < n && (descents <= limit || ascents <= limit); i++) {
+            if (arr[i - 1] > arr[i]) {
+                descents++;
+            } else if (arr[i - 1] < arr[i]) {
+                ascents++;
+            }
+        }
+        if (descents == 0) {
+            return Strategy.NONE;
+        }
+        if (ascents == 0) {
+            return Strategy.REVERSE;
+        }
+        if (n <= INSERTION_THRESHOLD) {
+            return Strategy.INSERTION;
+        }
+        if (descents <= limit || ascents <= limit) {
+            return Strategy.RUN_MERGE;
+        }
+
+        // Keys: strided sample for range and duplicate estimates
+        int sampleSize = Math.min(n, SAMPLE_SIZE);
+        int[] sample = new int[sampleSize];
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = arr[(int) ((long) i * n / sampleSize)];
+        }
+        QuickSort.sortRange(sample, 0, sampleSize - 1);
+        long sampleRange = (long) sample[sampleSize - 1] - sample[0];
+        int distinct = 1;
+        for (int i = 1; i < sampleSize; i++) {
+            if (sample[i] != sample[i - 1]) {
+                distinct++;
+            }
+        }
+
+        int countingLimit = Math.min(n, MAX_COUNTING_RANGE);
+        if (sampleRange < countingLimit && exactRange(arr) < countingLimit) {
+            return Strategy.COUNTING;
+        }
+        if (n >= PARALLEL_THRESHOLD && parallelism > 1) {
+            return Strategy.PARALLEL_RADIX;
+        }
+        if (1.0 - (double) distinct / sampleSize > DUPLICATE_RATIO) {
+            return Strategy.THREE_WAY_QUICK;
+        }
+        return Strategy.SEQUENTIAL_QUICK;
+    }
+
+    /**
+     * max - min over the whole array
+     */
+    private static long exactRange(int[] arr) {
+        int min = arr[0];
+        int max = arr[0];
+        for (int value : arr) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return (long) max - min;
+    }
+
+    /**
+     * Reverse arr[low..high] in place
+     */
+    private static void reverse(int[] arr, int low, int high) {
+        while (low < high) {
+            int temp = arr[low];
+            arr[low++] = arr[high];
+            arr[high--] = temp;
+        }
+    }
+
+    /**
+     * Insertion sort for tiny arrays
+     */
+    private static void insertionSort(int[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= 0 && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Counting sort over the exact key range
+     */
+    private static void countingSort(int[] arr) {
+        int min = arr[0];
+        int max = arr[0];
+        for (int value : arr) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        int[] counts = new int[max - min + 1];
+        for (int value : arr) {
+            counts[value - min]++;
+        }
+
+        int k = 0;
+        for (int i = 0; i < counts.length; i++) {
+            for (int c = counts[i]; c > 0; c--) {
+                arr[k++] = min + i;
+            }
+        }
+    }
+
+    /**
+     * Natural merge of the existing runs
+     * Mostly descending inputs are reversed first so their long, possibly non-strict runs become
+     * ascending; NaturalMergeSort only reverses strictly descending runs itself
+     */
+    private static void runMerge(int[] arr, ForkJoinPool pool) {
+        int n = arr.length;
+        int descents = 0;
+        int ascents = 0;
+        for (int i = 1; i < n; i++) {
+            if (arr[i - 1] > arr[i]) {
+                descents++;
+            } else if (arr[i - 1] < arr[i]) {
+                ascents++;
+            }
+        }
+        if (descents > ascents) {
+            reverse(arr, 0, n - 1);
+        }
+        NaturalMergeSort.sort(arr, pool);
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Adaptive SortEngine";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package parallel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel top-k: the k smallest values of an array, without sorting it
+ * Each block keeps a bounded max-heap of its k smallest values; sibling results are combined by
+ * merging their sorted candidates and keeping the first k.
+ * Time Complexity: O(n log k) work, O(n / p log k + k log p) span
+ * Space Complexity: O(p * k)
+ * The input array is not modified.
+ */
+public class TopK {
+
+    /**
+     * Default block size below which a single heap scans the range
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /**
+     * The k smallest values of arr in ascending order, computed on the common pool
+     */
+    public static int[] smallest(int[] arr, int k) {
+        return smallest(arr, k, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * The k smallest values of arr in ascending order, computed on the given pool
+     */
+    public static int[] smallest(int[] arr, int k, ForkJoinPool pool) {
+        if (arr == null || k < 0) {
+            throw new IllegalArgumentException("Invalid input or k: " + k);
+        }
+        k = Math.min(k, arr.length);
+        if (k == 0) {
+            return new int[0];
+        }
+        return pool.invoke(new TopKTask(arr, 0, arr.length, k));
+    }
+
+    /**
+     * Sorted k smallest values of arr[lo..hi)
+     */
+    private static class TopKTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int lo;
+        private final int hi;
+        private final int k;
+
+        TopKTask(int[] arr, int lo, int hi, int k) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+            this.k = k;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (hi - lo <= Math.max(DEFAULT_THRESHOLD, 2 * k)) {
+                return scan(arr, lo, hi, k);
+            }
+
+            int mid = (lo + hi) >>> 1;
+            TopKTask left = new TopKTask(arr, lo, mid, k);
+            left.fork();
+            int[] right = new TopKTask(arr, mid, hi, k).compute();
+            return mergeSmallest(left.join(), right, k);
+        }
+    }
+
+    /**
+     * Bounded max-heap scan of arr[lo..hi), returned in ascending order
+     */
+    private static int[] scan(int[] arr, int lo, int hi, int k) {
+        int size = Math.min(k, hi - lo);
+        int[] heap = new int[size];
+        System.arraycopy(arr, lo, heap, 0, size);
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(heap, i, size);
+        }
+
+        for (int i = lo + size; i < hi; i++) {
+            if (arr[i] < heap[0]) {
+                heap[0] = arr[i];
+                siftDown(heap, 0, size);
+            }
+        }
+
+        // Pop the maximum to the back until the heap is empty, leaving it ascending
+        for (int end = size - 1; end > 0; end--) {
+            int temp = heap[0];
+            heap[0] = heap[end];
+            heap[end] = temp;
+            siftDown(heap, 0, end);
+        }
+        return heap;
+    }
+
+    /**
+     * First k values of the merge of two ascending arrays
+     */
+    private static int[] mergeSmallest(int[] a, int[] b, int k) {
+        int[] out = new int[Math.min(k, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        for (int o = 0; o < out.length; o++) {
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                out[o] = a[i++];
+            } else {
+                out[o] = b[j++];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Restore the max-heap below position i
+     */
+    private static void siftDown(int[] heap, int i, int size) {
+        int value = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (value >= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Parallel TopK";
+    }
+}
\ No newline at end of file
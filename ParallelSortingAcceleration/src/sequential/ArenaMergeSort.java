@@ -0,0 +1,95 @@
+package sequential;
+
+/**
+ * Allocation-free sequential MergeSort
+ * Time Complexity: O(n log n), O(n) on sorted input
+ * Space Complexity: O(n), borrowed from the per-thread ScratchArena
+ * Unlike MergeSort, the array and its scratch copy swap roles at every level, so each merge
+ * writes straight into the buffer the parent reads from and nothing is copied back. A merge is
+ * replaced by a plain copy when the halves are already in order, and small ranges are
+ * insertion sorted. In steady state, sorting repeated batches allocates nothing.
+ */
+public class ArenaMergeSort {
+
+    /**
+     * Ranges of at most this many elements are insertion sorted
+     */
+    private static final int INSERTION_CUTOFF = 32;
+
+    /**
+     * Public method to sort array
+     */
+    public static void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int n = arr.length;
+        int[] scratch = ScratchArena.borrow(n);
+        try {
+            System.arraycopy(arr, 0, scratch, 0, n);
+            sortInto(scratch, arr, 0, n);
+        } finally {
+            ScratchArena.release(scratch);
+        }
+    }
+
+    /**
+     * Sort [lo..hi) so the result lands in dst, using src as the other buffer
+     * On entry src and dst hold the same values in [lo..hi)
+     */
+    private static void sortInto(int[] src, int[] dst, int lo, int hi) {
+        if (hi - lo <= INSERTION_CUTOFF) {
+            insertionSort(dst, lo, hi);
+            return;
+        }
+
+        // Children sort into src, which then holds two sorted halves to merge into dst
+        int mid = (lo + hi) >>> 1;
+        sortInto(dst, src, lo, mid);
+        sortInto(dst, src, mid, hi);
+
+        if (src[mid - 1] <= src[mid]) {
+            // Halves already in order: a copy is cheaper than a comparing merge
+            System.arraycopy(src, lo, dst, lo, hi - lo);
+            return;
+        }
+        merge(src, lo, mid, hi, dst);
+    }
+
+    /**
+     * Merge src[lo..mid) and src[mid..hi) into dst[lo..hi)
+     */
+    private static void merge(int[] src, int lo, int mid, int hi, int[] dst) {
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (j >= hi || (i < mid && src[i] <= src[j])) {
+                dst[k] = src[i++];
+            } else {
+                dst[k] = src[j++];
+            }
+        }
+    }
+
+    /**
+     * Insertion sort of arr[lo..hi)
+     */
+    private static void insertionSort(int[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Sequential ArenaMergeSort";
+    }
+}
\ No newline at end of file
@@ -19,6 +19,9 @@ public class BitonicSort {
 
         // Pad array to nearest power of 2 if necessary
         int[] paddedArr = padToPowerOfTwo(arr);
+        if (SortStats.ENABLED && paddedArr != arr) {
+            SortStats.scratch((long) Integer.BYTES * paddedArr.length);
+        }
 
         // Perform bitonic sort
         bitonicSort(paddedArr, 0, paddedArr.length, true);
@@ -63,6 +66,9 @@ public class BitonicSort {
      * @param dir Direction (true = ascending, false = descending)
      */
     private static void bitonicSort(int[] arr, int low, int cnt, boolean dir) {
+        if (SortStats.ENABLED) {
+            SortStats.enter();
+        }
         if (cnt > 1) {
             int k = cnt / 2;
 
@@ -75,12 +81,18 @@ public class BitonicSort {
             // Merge whole sequence in ascending order
             bitonicMerge(arr, low, cnt, dir);
         }
+        if (SortStats.ENABLED) {
+            SortStats.exit();
+        }
     }
 
     /**
      * Bitonic merge
      */
     private static void bitonicMerge(int[] arr, int low, int cnt, boolean dir) {
+        if (SortStats.ENABLED) {
+            SortStats.enter();
+        }
         if (cnt > 1) {
             int k = cnt / 2;
 
@@ -91,13 +103,22 @@ public class BitonicSort {
             bitonicMerge(arr, low, k, dir);
             bitonicMerge(arr, low + k, k, dir);
         }
+        if (SortStats.ENABLED) {
+            SortStats.exit();
+        }
     }
 
     /**
      * Compare and swap elements based on direction
      */
     private static void compareAndSwap(int[] arr, int i, int j, boolean dir) {
+        if (SortStats.ENABLED) {
+            SortStats.compare(1);
+        }
         if (dir == (arr[i] > arr[j])) {
+            if (SortStats.ENABLED) {
+                SortStats.swap();
+            }
             // Swap
             int temp = arr[i];
             arr[i] = arr[j];
@@ -0,0 +1,308 @@
+package sequential;
+
+/**
+ * Introsort with a branchless block partition (BlockQuicksort / pdqsort style)
+ * Average Time Complexity: O(n log n)
+ * Worst Case: O(n log n) - heapsort takes over below 2 log n partition levels
+ * Space Complexity: O(log n)
+ *
+ * The partition scans a block of up to 64 keys at a time and records the offsets of keys on the
+ * wrong side, advancing the count with the comparison result instead of branching on it; the
+ * recorded keys are then swapped pairwise. The only data-dependent branches left are loop
+ * bounds, so random keys no longer cost a mispredicted branch per element. The pivot is a median
+ * of three, or a ninther above 128 keys, and runs of keys equal to an earlier pivot are split
+ * off in one pass so duplicates cannot drive the recursion deep. Ranges of up to 24 keys are
+ * insertion sorted.
+ */
+public class IntroSort {
+
+    /**
+     * Largest range finished by insertion sort
+     */
+    static final int INSERTION_SORT_MAX = 24;
+
+    /**
+     * Smallest range whose pivot is a ninther rather than a median of three
+     */
+    static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Keys scanned per side before swapping
+     */
+    static final int BLOCK = 64;
+
+    /**
+     * Public method to sort array
+     */
+    public static void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        sort(arr, 2 * (31 - Integer.numberOfLeadingZeros(arr.length)));
+    }
+
+    /**
+     * Sort with the given number of partition levels before heapsort takes over
+     * sort(arr) allows 2 floor(log2 n); a limit of 0 sends any range above the insertion sort
+     * size straight to the heapsort fallback.
+     */
+    public static void sort(int[] arr, int depthLimit) {
+        if (depthLimit < 0) {
+            throw new IllegalArgumentException("Depth limit must not be negative: " + depthLimit);
+        }
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        introSort(arr, 0, arr.length, depthLimit, true, new int[BLOCK], new int[BLOCK]);
+    }
+
+    /**
+     * Sort arr[lo..hi), recursing into the smaller side and looping on the larger
+     * leftmost is false when arr[lo - 1] is an earlier pivot, no larger than any key in range
+     */
+    private static void introSort(int[] arr, int lo, int hi, int depthLimit, boolean leftmost,
+                                  int[] offsetsL, int[] offsetsR) {
+        if (SortStats.ENABLED) {
+            SortStats.enter();
+        }
+        while (true) {
+            if (hi - lo <= INSERTION_SORT_MAX) {
+                insertionSort(arr, lo, hi);
+                break;
+            }
+            if (depthLimit == 0) {
+                if (SortStats.ENABLED) {
+                    SortStats.fallback();
+                }
+                Selection.heapSort(arr, lo, hi - 1);
+                break;
+            }
+            depthLimit--;
+
+            choosePivot(arr, lo, hi);
+
+            // Pivot equals the earlier pivot on our left: every key equal to it is already in its
+            // final place once moved to the front, so peel them off and continue on the rest
+            if (!leftmost && arr[lo - 1] >= arr[lo]) {
+                lo = partitionLeft(arr, lo, hi) + 1;
+                continue;
+            }
+
+            int p = partitionRight(arr, lo, hi, offsetsL, offsetsR);
+            if (p - lo < hi - p - 1) {
+                introSort(arr, lo, p, depthLimit, leftmost, offsetsL, offsetsR);
+                lo = p + 1;
+                leftmost = false;
+            } else {
+                introSort(arr, p + 1, hi, depthLimit, false, offsetsL, offsetsR);
+                hi = p;
+            }
+        }
+        if (SortStats.ENABLED) {
+            SortStats.exit();
+        }
+    }
+
+    /**
+     * Move the pivot to arr[lo], leaving a key >= pivot near the end of the range
+     * That key bounds the scans of partitionRight.
+     */
+    private static void choosePivot(int[] arr, int lo, int hi) {
+        int half = (hi - lo) / 2;
+        if (hi - lo > NINTHER_THRESHOLD) {
+            sort3(arr, lo, lo + half, hi - 1);
+            sort3(arr, lo + 1, lo + half - 1, hi - 2);
+            sort3(arr, lo + 2, lo + half + 1, hi - 3);
+            sort3(arr, lo + half - 1, lo + half, lo + half + 1);
+            swap(arr, lo, lo + half);
+        } else {
+            sort3(arr, lo + half, lo, hi - 1);
+        }
+        if (SortStats.ENABLED) {
+            SortStats.compare(hi - lo > NINTHER_THRESHOLD ? 12 : 3);
+        }
+    }
+
+    /**
+     * Partition arr[lo..hi) around the pivot arr[lo]: keys < pivot before it, the rest after
+     * @return final index of the pivot
+     */
+    private static int partitionRight(int[] arr, int lo, int hi, int[] offsetsL, int[] offsetsR) {
+        if (SortStats.ENABLED) {
+            SortStats.compare(hi - lo);
+        }
+        int pivot = arr[lo];
+        int first = lo;
+        int last = hi;
+
+        // Skip the prefix already on the correct side; the pivot choice guarantees a stop
+        while (arr[++first] < pivot) {
+        }
+        if (first - 1 == lo) {
+            while (first < last && arr[--last] >= pivot) {
+            }
+        } else {
+            while (arr[--last] >= pivot) {
+            }
+        }
+
+        if (first < last) {
+            swap(arr, first, last);
+            first++;
+
+            int baseL = first;
+            int baseR = last;
+            int numL = 0;
+            int numR = 0;
+            int startL = 0;
+            int startR = 0;
+
+            while (first < last) {
+                // Refill whichever offset buffer is empty, splitting what is left when both are
+                int unknown = last - first;
+                int leftSplit = numL == 0 ? (numR == 0 ? unknown / 2 : unknown) : 0;
+                int rightSplit = numR == 0 ? unknown - leftSplit : 0;
+
+                int leftCount = Math.min(leftSplit, BLOCK);
+                for (int i = 0; i < leftCount; i++) {
+                    offsetsL[numL] = i;
+                    numL += arr[first++] >= pivot ? 1 : 0;
+                }
+                int rightCount = Math.min(rightSplit, BLOCK);
+                for (int i = 1; i <= rightCount; i++) {
+                    offsetsR[numR] = i;
+                    numR += arr[--last] < pivot ? 1 : 0;
+                }
+
+                int num = Math.min(numL, numR);
+                for (int k = 0; k < num; k++) {
+                    swap(arr, baseL + offsetsL[startL + k], baseR - offsetsR[startR + k]);
+                }
+                numL -= num;
+                numR -= num;
+                startL += num;
+                startR += num;
+
+                if (numL == 0) {
+                    startL = 0;
+                    baseL = first;
+                }
+                if (numR == 0) {
+                    startR = 0;
+                    baseR = last;
+                }
+            }
+
+            // At most one side has misplaced keys left; move them to the boundary
+            if (numL > 0) {
+                while (numL-- > 0) {
+                    swap(arr, baseL + offsetsL[startL + numL], --last);
+                }
+                first = last;
+            }
+            if (numR > 0) {
+                while (numR-- > 0) {
+                    swap(arr, baseR - offsetsR[startR + numR], first);
+                    first++;
+                }
+            }
+        }
+
+        int pivotIndex = first - 1;
+        arr[lo] = arr[pivotIndex];
+        arr[pivotIndex] = pivot;
+        return pivotIndex;
+    }
+
+    /**
+     * Partition arr[lo..hi) around the pivot arr[lo] with keys <= pivot first
+     * Used when the pivot equals the key before the range, so everything <= pivot equals it.
+     * @return final index of the pivot, the last key equal to it
+     */
+    private static int partitionLeft(int[] arr, int lo, int hi) {
+        if (SortStats.ENABLED) {
+            SortStats.compare(hi - lo);
+        }
+        int pivot = arr[lo];
+        int first = lo;
+        int last = hi;
+
+        while (pivot < arr[--last]) {
+        }
+        if (last + 1 == hi) {
+            while (first < last && pivot >= arr[++first]) {
+            }
+        } else {
+            while (pivot >= arr[++first]) {
+            }
+        }
+
+        while (first < last) {
+            swap(arr, first, last);
+            while (pivot < arr[--last]) {
+            }
+            while (pivot >= arr[++first]) {
+            }
+        }
+
+        arr[lo] = arr[last];
+        arr[last] = pivot;
+        return last;
+    }
+
+    /**
+     * Order arr[a] <= arr[b] <= arr[c]
+     */
+    private static void sort3(int[] arr, int a, int b, int c) {
+        sort2(arr, a, b);
+        sort2(arr, b, c);
+        sort2(arr, a, b);
+    }
+
+    /**
+     * Order arr[a] <= arr[b]
+     */
+    private static void sort2(int[] arr, int a, int b) {
+        if (arr[b] < arr[a]) {
+            swap(arr, a, b);
+        }
+    }
+
+    /**
+     * Insertion sort of arr[lo..hi)
+     */
+    private static void insertionSort(int[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+            if (SortStats.ENABLED) {
+                SortStats.compare(i - j);
+                SortStats.move(i - j);
+            }
+        }
+    }
+
+    /**
+     * Swap two elements in array
+     */
+    private static void swap(int[] arr, int i, int j) {
+        if (SortStats.ENABLED) {
+            SortStats.swap();
+        }
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Sequential IntroSort";
+    }
+}
\ No newline at end of file
@@ -15,13 +15,27 @@ public class MergeSort {
             return;
         }
         int[] temp = new int[arr.length];
+        if (SortStats.ENABLED) {
+            SortStats.scratch((long) Integer.BYTES * arr.length);
+        }
         mergeSort(arr, temp, 0, arr.length - 1);
     }
 
+    /**
+     * Sort the subrange arr[left..right] (inclusive) using a caller-supplied temp array
+     * temp must be at least right + 1 elements long; only temp[left..right] is touched
+     */
+    public static void sort(int[] arr, int[] temp, int left, int right) {
+        mergeSort(arr, temp, left, right);
+    }
+
     /**
      * Recursive merge sort implementation
      */
     private static void mergeSort(int[] arr, int[] temp, int left, int right) {
+        if (SortStats.ENABLED) {
+            SortStats.enter();
+        }
         if (left < right) {
             // Find middle point
             int mid = left + (right - left) / 2;
@@ -33,6 +47,9 @@ public class MergeSort {
             // Merge the sorted halves
             merge(arr, temp, left, mid, right);
         }
+        if (SortStats.ENABLED) {
+            SortStats.exit();
+        }
     }
 
     /**
@@ -60,6 +77,12 @@ public class MergeSort {
             k++;
         }
 
+        if (SortStats.ENABLED) {
+            // One comparison per element merged so far; every element is copied out and back
+            SortStats.compare(k - left);
+            SortStats.move(2L * (right - left + 1));
+        }
+
         // Copy remaining elements of left subarray
         while (i <= mid) {
             arr[k] = temp[i];
@@ -22,6 +22,9 @@ public class QuickSort {
      * Recursive quicksort implementation with tail recursion optimization
      */
     private static void quickSort(int[] arr, int low, int high) {
+        if (SortStats.ENABLED) {
+            SortStats.enter();
+        }
         while (low < high) {
             // Partition the array and get pivot index
             int pivotIndex = partition(arr, low, high);
@@ -36,12 +39,15 @@ public class QuickSort {
                 high = pivotIndex - 1;
             }
         }
+        if (SortStats.ENABLED) {
+            SortStats.exit();
+        }
     }
 
     /**
      * Partition method using median-of-three pivot selection
      */
-    private static int partition(int[] arr, int low, int high) {
+    static int partition(int[] arr, int low, int high) {
         // Use median-of-three pivot selection to avoid worst case
         int mid = low + (high - low) / 2;
 
@@ -53,6 +59,11 @@ public class QuickSort {
         // Now arr[high] is the median - use it as pivot
         int pivot = arr[high];
 
+        if (SortStats.ENABLED) {
+            // Three median-of-three comparisons plus one per scanned element
+            SortStats.compare(3 + high - low);
+        }
+
         // Index of smaller element
         int i = low - 1;
 
@@ -75,6 +86,9 @@ public class QuickSort {
      * Swap two elements in array
      */
     private static void swap(int[] arr, int i, int j) {
+        if (SortStats.ENABLED) {
+            SortStats.swap();
+        }
         int temp = arr[i];
         arr[i] = arr[j];
         arr[j] = temp;
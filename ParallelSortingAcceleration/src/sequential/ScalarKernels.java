@@ -0,0 +1,44 @@
+package sequential;
+
+/**
+ * Portable SortKernels: insertion sort for small ranges and a branch-light two-output partition
+ * Used when the vector kernels are not built, the incubator module is not enabled, or the
+ * hardware lacks 256-bit vectors.
+ */
+public class ScalarKernels implements SortKernels {
+
+    @Override
+    public void sortSmall(int[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    @Override
+    public int partitionLess(int[] arr, int lo, int hi, int pivot, int[] scratch) {
+        int left = lo;
+        int right = 0;
+        for (int i = lo; i < hi; i++) {
+            // Write to both sides and advance only one cursor, avoiding a data-dependent branch
+            int value = arr[i];
+            int less = value < pivot ? 1 : 0;
+            arr[left] = value;
+            scratch[right] = value;
+            left += less;
+            right += 1 - less;
+        }
+        System.arraycopy(scratch, 0, arr, left, right);
+        return left;
+    }
+
+    @Override
+    public String description() {
+        return "scalar";
+    }
+}
\ No newline at end of file
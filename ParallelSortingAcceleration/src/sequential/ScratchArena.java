@@ -0,0 +1,71 @@
+package sequential;
+
+/**
+ * Per-thread, size-classed pool of int scratch buffers
+ * Requests are rounded up to a power of two and served from the calling thread's cached buffer
+ * of that class, so repeatedly sorting batches of similar size stops allocating once every class
+ * in use has been filled. Each thread caches at most one buffer per class; a nested borrow of
+ * an already lent class allocates, and the spare is dropped on release.
+ * Buffers above MAX_CACHED_LENGTH are allocated exactly and never cached.
+ */
+public class ScratchArena {
+
+    /**
+     * Largest buffer kept between borrows (2^24 ints = 64 MB)
+     */
+    public static final int MAX_CACHED_LENGTH = 1 << 24;
+
+    private static final int CLASSES = Integer.numberOfTrailingZeros(MAX_CACHED_LENGTH) + 1;
+
+    private static final ThreadLocal<int[][]> CACHE = ThreadLocal.withInitial(() -> new int[CLASSES][]);
+
+    /**
+     * A buffer of at least minLength ints with unspecified contents
+     * Hand it back with release when done
+     */
+    public static int[] borrow(int minLength) {
+        if (minLength > MAX_CACHED_LENGTH) {
+            return new int[minLength];
+        }
+        int sizeClass = sizeClass(minLength);
+        int[][] cache = CACHE.get();
+        int[] buffer = cache[sizeClass];
+        if (buffer == null) {
+            if (SortStats.ENABLED) {
+                SortStats.scratch((long) Integer.BYTES << sizeClass);
+            }
+            return new int[1 << sizeClass];
+        }
+        cache[sizeClass] = null;
+        return buffer;
+    }
+
+    /**
+     * Return a buffer obtained from borrow on the same thread
+     */
+    public static void release(int[] buffer) {
+        int length = buffer.length;
+        if (length > MAX_CACHED_LENGTH || Integer.bitCount(length) != 1) {
+            return;
+        }
+        int[][] cache = CACHE.get();
+        int sizeClass = sizeClass(length);
+        if (cache[sizeClass] == null) {
+            cache[sizeClass] = buffer;
+        }
+    }
+
+    /**
+     * Drop every buffer cached by the calling thread
+     */
+    public static void clear() {
+        CACHE.remove();
+    }
+
+    /**
+     * Log2 of the smallest power of two holding length ints
+     */
+    private static int sizeClass(int length) {
+        return length <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(length - 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package sequential;
+
+/**
+ * Sequential selection (introselect) and partial sort
+ * select: Average O(n), Worst O(n log n) - heapsort takes over after 2 log n partitions
+ * partialSort: O(n + k log k) on average
+ * Space Complexity: O(1)
+ */
+public class Selection {
+
+    /**
+     * Rearrange arr so that arr[k] holds the k-th smallest value (0-based), with no larger value
+     * before it and no smaller value after it
+     * @return the k-th smallest value
+     */
+    public static int select(int[] arr, int k) {
+        if (arr == null || k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of range: " + k);
+        }
+        select(arr, 0, arr.length - 1, k);
+        return arr[k];
+    }
+
+    /**
+     * Rearrange arr so that arr[0..k-1] holds the k smallest values in ascending order
+     * The order of the remaining elements is unspecified
+     */
+    public static void partialSort(int[] arr, int k) {
+        if (arr == null || k <= 0) {
+            return;
+        }
+        if (k >= arr.length) {
+            heapSort(arr, 0, arr.length - 1);
+            return;
+        }
+        select(arr, 0, arr.length - 1, k - 1);
+        heapSort(arr, 0, k - 2);
+    }
+
+    /**
+     * Introselect on arr[low..high] using QuickSort's median-of-three partition
+     */
+    private static void select(int[] arr, int low, int high, int k) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(high - low + 1));
+
+        while (low < high) {
+            if (depthLimit-- == 0) {
+                // Partitioning is not converging (e.g. many equal keys), finish in O(n log n)
+                heapSort(arr, low, high);
+                return;
+            }
+
+            int pivotIndex = QuickSort.partition(arr, low, high);
+            if (pivotIndex == k) {
+                return;
+            } else if (k < pivotIndex) {
+                high = pivotIndex - 1;
+            } else {
+                low = pivotIndex + 1;
+            }
+        }
+    }
+
+    /**
+     * Heapsort of arr[low..high]
+     */
+    static void heapSort(int[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            int temp = arr[low];
+            arr[low] = arr[low + end];
+            arr[low + end] = temp;
+            siftDown(arr, low, 0, end);
+        }
+    }
+
+    /**
+     * Restore the max-heap rooted at offset + i within a heap of size n starting at offset
+     */
+    private static void siftDown(int[] arr, int offset, int i, int n) {
+        int value = arr[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && arr[offset + child + 1] > arr[offset + child]) {
+                child++;
+            }
+            if (value >= arr[offset + child]) {
+                break;
+            }
+            arr[offset + i] = arr[offset + child];
+            i = child;
+        }
+        arr[offset + i] = value;
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Sequential Selection";
+    }
+}
\ No newline at end of file
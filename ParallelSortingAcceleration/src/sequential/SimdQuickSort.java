@@ -0,0 +1,109 @@
+package sequential;
+
+/**
+ * Hybrid QuickSort whose partition step and small-range base case run on SortKernels
+ * Average Time Complexity: O(n log n)
+ * Worst Case: O(n log n) - heapsort takes over after 2 log n partitions
+ * Space Complexity: O(n) scratch from the ScratchArena, O(log n) stack
+ *
+ * With the vector kernels, partitioning compares 8 keys per instruction and packs each side
+ * with a lane permutation, and ranges of up to 16 keys are sorted by a bitonic network held in
+ * two registers. The vector kernels live in the separate src-vector source root because they
+ * need the incubator module:
+ *   javac --add-modules jdk.incubator.vector -cp out -d out src-vector/sequential/VectorKernels.java
+ *   java --add-modules jdk.incubator.vector -cp out Main ...
+ * Without either step the scalar kernels are used; -Dsorting.simd=false forces them.
+ */
+public class SimdQuickSort {
+
+    /**
+     * Kernels chosen once at class initialization
+     */
+    private static final SortKernels KERNELS = loadKernels();
+
+    /**
+     * Public method to sort array
+     */
+    public static void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int n = arr.length;
+        int[] scratch = ScratchArena.borrow(n + SortKernels.SCRATCH_SLACK);
+        try {
+            int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(n));
+            quickSort(arr, 0, n, depthLimit, scratch);
+        } finally {
+            ScratchArena.release(scratch);
+        }
+    }
+
+    /**
+     * Sort arr[lo..hi), recursing into the smaller side and looping on the larger
+     */
+    private static void quickSort(int[] arr, int lo, int hi, int depthLimit, int[] scratch) {
+        while (hi - lo > SortKernels.SMALL_SORT_MAX) {
+            if (depthLimit-- == 0) {
+                Selection.heapSort(arr, lo, hi - 1);
+                return;
+            }
+
+            int pivot = medianOfThree(arr[lo], arr[(lo + hi) >>> 1], arr[hi - 1]);
+            int split = KERNELS.partitionLess(arr, lo, hi, pivot, scratch);
+
+            if (split == lo) {
+                // Pivot is the minimum: peel off every key equal to it, which is then in place
+                if (pivot == Integer.MAX_VALUE) {
+                    return;
+                }
+                lo = KERNELS.partitionLess(arr, lo, hi, pivot + 1, scratch);
+                continue;
+            }
+
+            if (split - lo < hi - split) {
+                quickSort(arr, lo, split, depthLimit, scratch);
+                lo = split;
+            } else {
+                quickSort(arr, split, hi, depthLimit, scratch);
+                hi = split;
+            }
+        }
+        KERNELS.sortSmall(arr, lo, hi);
+    }
+
+    /**
+     * Median of three values
+     */
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Vector kernels when they are on the class path and usable, scalar kernels otherwise
+     */
+    private static SortKernels loadKernels() {
+        if (!Boolean.parseBoolean(System.getProperty("sorting.simd", "true"))) {
+            return new ScalarKernels();
+        }
+        try {
+            return (SortKernels) Class.forName("sequential.VectorKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException e) {
+            // Not built, incubator module not enabled, or no 256-bit vectors on this machine
+            return new ScalarKernels();
+        }
+    }
+
+    /**
+     * Which kernels are in use
+     */
+    public static String kernels() {
+        return KERNELS.description();
+    }
+
+    /**
+     * Get algorithm name
+     */
+    public static String getName() {
+        return "Sequential SimdQuickSort (" + KERNELS.description() + ")";
+    }
+}
\ No newline at end of file
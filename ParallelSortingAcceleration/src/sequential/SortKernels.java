@@ -0,0 +1,36 @@
+package sequential;
+
+/**
+ * Base-case kernels used by SimdQuickSort
+ * ScalarKernels is always available; VectorKernels (built from src-vector) implements the same
+ * contract with jdk.incubator.vector and is picked up when it can be loaded.
+ */
+public interface SortKernels {
+
+    /**
+     * Largest range sortSmall accepts
+     */
+    int SMALL_SORT_MAX = 16;
+
+    /**
+     * Extra scratch elements partitionLess may write past hi - lo
+     */
+    int SCRATCH_SLACK = 16;
+
+    /**
+     * Sort arr[lo..hi), where hi - lo <= SMALL_SORT_MAX
+     */
+    void sortSmall(int[] arr, int lo, int hi);
+
+    /**
+     * Reorder arr[lo..hi) so that values below pivot come first
+     * scratch must hold at least hi - lo + SCRATCH_SLACK elements
+     * @return first index holding a value >= pivot, or hi
+     */
+    int partitionLess(int[] arr, int lo, int hi, int pivot, int[] scratch);
+
+    /**
+     * Short description for reports, e.g. "scalar" or "vector 256-bit"
+     */
+    String description();
+}
\ No newline at end of file
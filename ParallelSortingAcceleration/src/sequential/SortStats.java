@@ -0,0 +1,183 @@
+package sequential;
+
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hot-path counters for the sorting algorithms: comparisons, swaps, element moves,
+ * maximum recursion depth, scratch bytes allocated and worst-case fallbacks taken
+ * Counters live in a per-thread instance, so instrumented code never contends on shared state.
+ * Every call site is guarded by the static final ENABLED flag; when it is false (the default)
+ * the JIT folds the guard to a constant and removes the counting code from the compiled sort.
+ * Enable with -Dsorting.instrument=true.
+ *
+ * Per call: resetAll() before the sort, total() after it. Per thread: current().
+ * Threads are held weakly; resetAll() drops the counters of threads that have finished, so pools
+ * created per sort do not accumulate entries.
+ */
+public class SortStats {
+
+    /**
+     * Whether instrumentation is compiled into the hot paths
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("sorting.instrument");
+
+    /**
+     * Every live thread's counters, so parallel sorts can be summed across their workers
+     * Finished threads stay until the next resetAll(), so total() still counts their work.
+     */
+    private static final Queue<Entry> ALL_THREADS = new ConcurrentLinkedQueue<>();
+
+    private static final ThreadLocal<SortStats> CURRENT = ThreadLocal.withInitial(() -> {
+        // Finished threads that recorded nothing can go now
+        ALL_THREADS.removeIf(entry -> entry.finished() && entry.stats.isEmpty());
+        SortStats stats = new SortStats();
+        ALL_THREADS.add(new Entry(Thread.currentThread(), stats));
+        return stats;
+    });
+
+    /**
+     * A thread's counters, with a weak reference to the thread so it can be seen to finish
+     */
+    private static final class Entry {
+        private final WeakReference<Thread> owner;
+        private final SortStats stats;
+
+        Entry(Thread owner, SortStats stats) {
+            this.owner = new WeakReference<>(owner);
+            this.stats = stats;
+        }
+
+        /**
+         * Whether the owning thread has terminated or been collected
+         */
+        boolean finished() {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+    }
+
+    public long comparisons;
+    public long swaps;
+    public long moves;
+    public int maxDepth;
+    public long scratchBytes;
+    public long fallbacks;
+
+    private int depth;
+
+    /**
+     * Counters of the calling thread
+     */
+    public static SortStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Zero the counters of every thread that has recorded anything, dropping finished threads
+     * Call while no instrumented sort is running
+     */
+    public static void resetAll() {
+        ALL_THREADS.removeIf(Entry::finished);
+        for (Entry entry : ALL_THREADS) {
+            entry.stats.reset();
+        }
+    }
+
+    /**
+     * Sum of every thread's counters; maxDepth is the deepest any single thread went
+     */
+    public static SortStats total() {
+        SortStats sum = new SortStats();
+        for (Entry entry : ALL_THREADS) {
+            SortStats stats = entry.stats;
+            sum.comparisons += stats.comparisons;
+            sum.swaps += stats.swaps;
+            sum.moves += stats.moves;
+            sum.maxDepth = Math.max(sum.maxDepth, stats.maxDepth);
+            sum.scratchBytes += stats.scratchBytes;
+            sum.fallbacks += stats.fallbacks;
+        }
+        return sum;
+    }
+
+    /**
+     * Whether nothing has been recorded since the last reset
+     */
+    private boolean isEmpty() {
+        return comparisons == 0 && swaps == 0 && moves == 0 && maxDepth == 0 && scratchBytes == 0
+                && fallbacks == 0;
+    }
+
+    /**
+     * Zero this thread's counters
+     */
+    public void reset() {
+        comparisons = 0;
+        swaps = 0;
+        moves = 0;
+        maxDepth = 0;
+        scratchBytes = 0;
+        fallbacks = 0;
+        depth = 0;
+    }
+
+    /**
+     * Record n key comparisons
+     */
+    static void compare(long n) {
+        CURRENT.get().comparisons += n;
+    }
+
+    /**
+     * Record one swap (three element moves are not counted separately)
+     */
+    static void swap() {
+        CURRENT.get().swaps++;
+    }
+
+    /**
+     * Record n element writes outside swaps, e.g. copies to and from merge buffers
+     */
+    static void move(long n) {
+        CURRENT.get().moves += n;
+    }
+
+    /**
+     * Record a scratch allocation of the given number of bytes
+     */
+    static void scratch(long bytes) {
+        CURRENT.get().scratchBytes += bytes;
+    }
+
+    /**
+     * Record a switch to a worst-case fallback, such as introsort handing a range to heapsort
+     */
+    static void fallback() {
+        CURRENT.get().fallbacks++;
+    }
+
+    /**
+     * Record entry into one more level of recursion
+     */
+    static void enter() {
+        SortStats stats = CURRENT.get();
+        if (++stats.depth > stats.maxDepth) {
+            stats.maxDepth = stats.depth;
+        }
+    }
+
+    /**
+     * Record return from one level of recursion
+     */
+    static void exit() {
+        CURRENT.get().depth--;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cmp: %d | Swaps: %d | Moves: %d | Depth: %d | Scratch: %d B | Fallbacks: %d",
+                comparisons, swaps, moves, maxDepth, scratchBytes, fallbacks);
+    }
+}
\ No newline at end of file
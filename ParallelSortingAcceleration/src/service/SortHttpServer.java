@@ -0,0 +1,179 @@
+package service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Loopback HTTP front end for a SortService
+ *   POST /sort   body: big-endian 32-bit ints; response: the same ints in ascending order
+ *   GET  /stats  SortService.Stats as JSON
+ * Handler threads only parse the request and submit it; the response is written from a
+ * separate I/O executor once the sort completes, so no thread waits on a pending sort.
+ * Full queue: 503; malformed body: 400; body above maxBodyBytes: 413.
+ */
+public class SortHttpServer implements AutoCloseable {
+
+    static {
+        // Headers and body go out in separate writes; with Nagle on, each small response waits
+        // for the client's delayed ACK (about 40 ms). Read once when the JDK server first loads.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /**
+     * Default largest request body accepted, 16M ints
+     */
+    public static final int DEFAULT_MAX_BODY_BYTES = 64 << 20;
+
+    private final SortService service;
+    private final HttpServer server;
+    private final ExecutorService io;
+    private final int maxBodyBytes;
+
+    /**
+     * Serve the given service on 127.0.0.1:port; port 0 picks a free port
+     */
+    public SortHttpServer(SortService service, int port) throws IOException {
+        this(service, port, DEFAULT_MAX_BODY_BYTES);
+    }
+
+    /**
+     * Serve the given service, answering 413 to bodies above maxBodyBytes
+     */
+    public SortHttpServer(SortService service, int port, int maxBodyBytes) throws IOException {
+        if (maxBodyBytes < 0 || maxBodyBytes == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Body limit out of range: " + maxBodyBytes);
+        }
+        this.service = service;
+        this.maxBodyBytes = maxBodyBytes;
+        this.io = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), task -> {
+            Thread thread = new Thread(task, "sort-http-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        this.server.setExecutor(io);
+        this.server.createContext("/sort", this::handleSort);
+        this.server.createContext("/stats", this::handleStats);
+        this.server.start();
+    }
+
+    /**
+     * Port the server is bound to
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Decode, submit and answer asynchronously
+     */
+    private void handleSort(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            respond(exchange, 405, new byte[0]);
+            return;
+        }
+        String declared = exchange.getRequestHeaders().getFirst("Content-Length");
+        try {
+            if (declared != null && Long.parseLong(declared.trim()) > maxBodyBytes) {
+                respond(exchange, 413, tooLarge());
+                return;
+            }
+        } catch (NumberFormatException e) {
+            respond(exchange, 400, "Malformed Content-Length".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            // Chunked bodies carry no length; read one byte past the limit to detect them
+            body = in.readNBytes(maxBodyBytes + 1);
+        }
+        if (body.length > maxBodyBytes) {
+            respond(exchange, 413, tooLarge());
+            return;
+        }
+        if (body.length % Integer.BYTES != 0) {
+            respond(exchange, 400, "Body length must be a multiple of 4".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        int[] data = new int[body.length / Integer.BYTES];
+        ByteBuffer.wrap(body).asIntBuffer().get(data);
+
+        service.submit(data).whenCompleteAsync((sorted, failure) -> {
+            try {
+                if (failure == null) {
+                    ByteBuffer out = ByteBuffer.allocate(sorted.length * Integer.BYTES);
+                    out.asIntBuffer().put(sorted);
+                    respond(exchange, 200, out.array());
+                } else if (failure instanceof RejectedExecutionException) {
+                    respond(exchange, 503, failure.getMessage().getBytes(StandardCharsets.UTF_8));
+                } else {
+                    respond(exchange, 500, String.valueOf(failure).getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException e) {
+                // Client went away; nothing left to answer
+                exchange.close();
+            }
+        }, io);
+    }
+
+    /**
+     * Body of a 413 response
+     */
+    private byte[] tooLarge() {
+        return ("Body exceeds " + maxBodyBytes + " bytes").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Current service counters as JSON
+     */
+    private void handleStats(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        respond(exchange, 200, service.stats().toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Send a complete response and close the exchange
+     */
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Stop the server; the service itself is left to its owner
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        io.shutdownNow();
+    }
+
+    /**
+     * Run a service and its HTTP front end until the process is killed: [port]
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        SortService service = new SortService();
+        SortHttpServer server = new SortHttpServer(service, port);
+        System.out.println("Sort service listening on http://127.0.0.1:" + server.port() + "/sort");
+        while (true) {
+            Thread.sleep(10_000);
+            System.out.println("  " + service.stats());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,319 @@
+package service;
+
+import parallel.SortEngine;
+import sequential.SimdQuickSort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process sort service for many concurrent callers sorting small arrays
+ * submit() never blocks and never hands the caller's thread to the sort: it queues the request
+ * and returns a future at once, so thousands of request handlers can wait on futures instead
+ * of on threads. A dispatcher thread coalesces queued small requests into batches of about
+ * batchElements values, and a bounded worker pool (one worker per core by default) sorts each
+ * batch in one task, paying the hand-off and wake-up cost once per batch instead of once per
+ * request. Requests above maxBatchedLength skip the queue and are sorted by the parallel
+ * SortEngine on the same pool.
+ *
+ * Every request, batched or not, holds one of queueCapacity permits from submission until its
+ * future completes; a submission that finds none left fails its future instead of letting the
+ * backlog grow without bound.
+ *
+ * JDK 17 has no virtual threads; the asynchronous submit stands in for them, since callers
+ * need no thread of their own while a sort is pending. Futures complete on a worker thread, so
+ * blocking continuations should use the *Async stages with their own executor.
+ *
+ * Arrays are sorted in place and the same array completes the future; the caller must not
+ * touch it until then.
+ */
+public class SortService implements AutoCloseable {
+
+    /**
+     * Default length above which a request is sorted on its own
+     */
+    public static final int DEFAULT_MAX_BATCHED_LENGTH = 4096;
+
+    /**
+     * Default number of values gathered into one batch
+     */
+    public static final int DEFAULT_BATCH_ELEMENTS = 1 << 15;
+
+    /**
+     * Default number of pending requests, queued or being sorted, before submissions are rejected
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1 << 16;
+
+    private final ForkJoinPool workers;
+    private final BlockingQueue<Request> queue;
+    private final Semaphore capacity;
+    private final int queueCapacity;
+    private final Thread dispatcher;
+    private final int maxBatchedLength;
+    private final int batchElements;
+
+    private final LatencyRecorder latency = new LatencyRecorder();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchedRequests = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * A queued request and the time it was submitted
+     */
+    private static class Request {
+        final int[] data;
+        final CompletableFuture<int[]> future;
+        final long submitNanos;
+
+        Request(int[] data, CompletableFuture<int[]> future, long submitNanos) {
+            this.data = data;
+            this.future = future;
+            this.submitNanos = submitNanos;
+        }
+    }
+
+    /**
+     * Service with default limits and one worker per available processor
+     */
+    public SortService() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_BATCHED_LENGTH,
+                DEFAULT_BATCH_ELEMENTS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public SortService(int parallelism, int maxBatchedLength, int batchElements, int queueCapacity) {
+        if (parallelism < 1 || maxBatchedLength < 0 || batchElements < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Parallelism, batch size and queue capacity must be positive");
+        }
+        this.workers = new ForkJoinPool(parallelism);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.capacity = new Semaphore(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.maxBatchedLength = maxBatchedLength;
+        this.batchElements = batchElements;
+        this.dispatcher = new Thread(this::dispatch, "sort-service-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Sort data asynchronously; the future completes with data itself, sorted
+     * Fails with RejectedExecutionException when queueCapacity requests are already pending or
+     * the service is closed
+     */
+    public CompletableFuture<int[]> submit(int[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        CompletableFuture<int[]> future = new CompletableFuture<>();
+        if (closed) {
+            rejected.incrementAndGet();
+            future.completeExceptionally(new RejectedExecutionException("Sort service closed"));
+            return future;
+        }
+        if (!capacity.tryAcquire()) {
+            rejected.incrementAndGet();
+            future.completeExceptionally(new RejectedExecutionException(
+                    "Sort service full: " + queueCapacity + " requests pending"));
+            return future;
+        }
+        submitted.incrementAndGet();
+        Request request = new Request(data, future, System.nanoTime());
+
+        if (data.length > maxBatchedLength) {
+            try {
+                workers.execute(() -> {
+                    try {
+                        SortEngine.sort(request.data, workers);
+                        complete(request);
+                    } catch (RuntimeException | Error e) {
+                        fail(request, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejected.incrementAndGet();
+                fail(request, e);
+            }
+        } else if (!queue.offer(request)) {
+            // Cannot happen while the queue is as large as the permit count; kept as a guard
+            rejected.incrementAndGet();
+            fail(request, new RejectedExecutionException("Sort service queue full: " + queue.size() + " requests"));
+        } else if (closed && queue.remove(request)) {
+            // Raced with close() after its final drain
+            fail(request, new RejectedExecutionException("Sort service closed"));
+        }
+        return future;
+    }
+
+    /**
+     * Dispatcher loop: wait for a request, drain whatever else is queued up to the batch size,
+     * and hand the batch to the workers
+     */
+    private void dispatch() {
+        try {
+            while (!closed) {
+                Request first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Request> batch = new ArrayList<>();
+                batch.add(first);
+                int elements = first.data.length;
+                while (elements < batchElements) {
+                    Request next = queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    elements += next.data.length;
+                }
+                batches.incrementAndGet();
+                batchedRequests.addAndGet(batch.size());
+                workers.execute(() -> sortBatch(batch));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RejectedExecutionException e) {
+            // Pool shut down by close(); pending requests are failed there
+        }
+    }
+
+    /**
+     * Sort every request of a batch on the current worker
+     */
+    private void sortBatch(List<Request> batch) {
+        for (Request request : batch) {
+            try {
+                SimdQuickSort.sort(request.data);
+                complete(request);
+            } catch (RuntimeException | Error e) {
+                fail(request, e);
+            }
+        }
+    }
+
+    /**
+     * Record the latency, return the request's permit and complete the future
+     */
+    private void complete(Request request) {
+        latency.record(System.nanoTime() - request.submitNanos);
+        capacity.release();
+        request.future.complete(request.data);
+    }
+
+    /**
+     * Return the request's permit and fail the future
+     */
+    private void fail(Request request, Throwable failure) {
+        capacity.release();
+        request.future.completeExceptionally(failure);
+    }
+
+    /**
+     * Small requests waiting for the dispatcher
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Submit-to-completion latency of every completed request
+     */
+    public LatencyRecorder latency() {
+        return latency;
+    }
+
+    /**
+     * Zero the counters and latencies, e.g. after a warmup
+     */
+    public void resetStats() {
+        latency.reset();
+        submitted.set(0);
+        rejected.set(0);
+        batches.set(0);
+        batchedRequests.set(0);
+    }
+
+    /**
+     * Point-in-time counters and latency percentiles
+     */
+    public Stats stats() {
+        return new Stats(this);
+    }
+
+    /**
+     * Snapshot of the service counters; latencies in microseconds
+     */
+    public static class Stats {
+        public final long submitted;
+        public final long completed;
+        public final long rejected;
+        public final int queueDepth;
+        public final double averageBatchSize;
+        public final double p50Micros;
+        public final double p90Micros;
+        public final double p99Micros;
+        public final double p999Micros;
+        public final double maxMicros;
+
+        Stats(SortService service) {
+            this.submitted = service.submitted.get();
+            this.completed = service.latency.count();
+            this.rejected = service.rejected.get();
+            this.queueDepth = service.queueDepth();
+            long batches = service.batches.get();
+            this.averageBatchSize = batches == 0 ? 0 : (double) service.batchedRequests.get() / batches;
+            this.p50Micros = service.latency.percentile(50) / 1000.0;
+            this.p90Micros = service.latency.percentile(90) / 1000.0;
+            this.p99Micros = service.latency.percentile(99) / 1000.0;
+            this.p999Micros = service.latency.percentile(99.9) / 1000.0;
+            this.maxMicros = service.latency.max() / 1000.0;
+        }
+
+        public String toJson() {
+            return String.format("{\"submitted\": %d, \"completed\": %d, \"rejected\": %d, \"queueDepth\": %d, "
+                            + "\"averageBatchSize\": %.2f, \"p50Micros\": %.1f, \"p90Micros\": %.1f, "
+                            + "\"p99Micros\": %.1f, \"p999Micros\": %.1f, \"maxMicros\": %.1f}",
+                    submitted, completed, rejected, queueDepth, averageBatchSize, p50Micros, p90Micros,
+                    p99Micros, p999Micros, maxMicros);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Submitted: %d | Completed: %d | Rejected: %d | Queue: %d | Batch: %.1f"
+                            + " | p50 %.1f us | p90 %.1f us | p99 %.1f us | p99.9 %.1f us | max %.1f us",
+                    submitted, completed, rejected, queueDepth, averageBatchSize, p50Micros, p90Micros,
+                    p99Micros, p999Micros, maxMicros);
+        }
+    }
+
+    /**
+     * Stop accepting work, fail the requests still queued and shut the workers down
+     * Batches already handed to the workers still complete.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Request request;
+        while ((request = queue.poll()) != null) {
+            fail(request, new RejectedExecutionException("Sort service closed"));
+        }
+        workers.shutdown();
+    }
+}
\ No newline at end of file
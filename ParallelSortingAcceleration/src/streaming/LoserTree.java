@@ -0,0 +1,92 @@
+package streaming;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Tournament (loser) tree k-way merge over sorted int runs
+ * Each internal node remembers the loser of its match and the overall winner sits at the root,
+ * so producing the next value replays one leaf-to-root path: log k comparisons per element,
+ * with no sibling lookups (unlike a binary heap's sift-down, which compares both children).
+ * Time Complexity: O(n log k) for n values in k runs
+ * Space Complexity: O(k)
+ */
+public class LoserTree implements PrimitiveIterator.OfInt {
+
+    /**
+     * Key of an exhausted run, larger than every int
+     */
+    private static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private final int[][] runs;
+    private final int[] positions;
+    private final int[] tree;
+    private final int k;
+
+    /**
+     * Merge the given ascending runs; the runs are read in place and must not change
+     */
+    public LoserTree(int[][] runs) {
+        this.runs = runs;
+        this.k = runs.length;
+        this.positions = new int[k];
+        this.tree = new int[Math.max(1, k)];
+        if (k > 0) {
+            tree[0] = build(1);
+        }
+    }
+
+    /**
+     * Play the matches below node, storing losers; returns the winning run
+     * Leaves are the virtual nodes k..2k-1, so any k forms a complete tree
+     */
+    private int build(int node) {
+        if (node >= k) {
+            return node - k;
+        }
+        int left = build(2 * node);
+        int right = build(2 * node + 1);
+        if (key(left) <= key(right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+
+    /**
+     * Current head of run r, or EXHAUSTED
+     */
+    private long key(int r) {
+        return positions[r] < runs[r].length ? runs[r][positions[r]] : EXHAUSTED;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return k > 0 && key(tree[0]) != EXHAUSTED;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int winner = tree[0];
+        int value = runs[winner][positions[winner]++];
+
+        // Replay the winner's path: at each node the smaller key moves up, the other stays
+        long winnerKey = key(winner);
+        for (int node = (winner + k) >>> 1; node >= 1; node >>>= 1) {
+            int loser = tree[node];
+            long loserKey = key(loser);
+            if (loserKey < winnerKey) {
+                tree[node] = winner;
+                winner = loser;
+                winnerKey = loserKey;
+            }
+        }
+        tree[0] = winner;
+        return value;
+    }
+}
\ No newline at end of file
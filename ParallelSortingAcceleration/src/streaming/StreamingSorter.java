@@ -0,0 +1,142 @@
+package streaming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Incremental sorter for data that arrives as a stream of chunks
+ * Pushed values are gathered into runs of runLength elements; every full run is sorted on a
+ * worker pool while the producer keeps pushing. finish() waits for the outstanding runs and
+ * returns a loser-tree merge over them, so most of the sorting overlaps with ingestion.
+ * Usage: push(...) any number of times, then finish() once and drain the iterator.
+ */
+public class StreamingSorter implements AutoCloseable {
+
+    /**
+     * Default number of values per background-sorted run
+     */
+    public static final int DEFAULT_RUN_LENGTH = 1 << 18;
+
+    private final ExecutorService workers;
+    private final int runLength;
+    private final List<Future<int[]>> runs = new ArrayList<>();
+
+    private int[] current;
+    private int filled;
+    private boolean finished;
+
+    /**
+     * Sorter with the default run length and one worker per available processor
+     */
+    public StreamingSorter() {
+        this(DEFAULT_RUN_LENGTH, Runtime.getRuntime().availableProcessors());
+    }
+
+    public StreamingSorter(int runLength, int parallelism) {
+        if (runLength < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Run length and parallelism must be positive");
+        }
+        this.runLength = runLength;
+        this.workers = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, "streaming-sort-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.current = new int[runLength];
+    }
+
+    /**
+     * Append a chunk; the values are copied, so the caller may reuse the array
+     */
+    public void push(int[] chunk) {
+        push(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Append chunk[offset..offset+length)
+     */
+    public synchronized void push(int[] chunk, int offset, int length) {
+        if (finished) {
+            throw new IllegalStateException("Sorter already finished");
+        }
+        while (length > 0) {
+            int count = Math.min(length, runLength - filled);
+            System.arraycopy(chunk, offset, current, filled, count);
+            filled += count;
+            offset += count;
+            length -= count;
+
+            if (filled == runLength) {
+                submit(current);
+                current = new int[runLength];
+                filled = 0;
+            }
+        }
+    }
+
+    /**
+     * Hand a full run to the workers
+     */
+    private void submit(int[] run) {
+        runs.add(workers.submit(() -> {
+            sequential.MergeSort.sort(run);
+            return run;
+        }));
+    }
+
+    /**
+     * Stop accepting input and return an iterator over every pushed value in ascending order
+     * Blocks until the background sorts have completed
+     */
+    public synchronized PrimitiveIterator.OfInt finish() {
+        if (finished) {
+            throw new IllegalStateException("Sorter already finished");
+        }
+        finished = true;
+
+        if (filled > 0) {
+            int[] tail = Arrays.copyOf(current, filled);
+            submit(tail);
+        }
+        current = null;
+
+        int[][] sorted = new int[runs.size()][];
+        for (int i = 0; i < sorted.length; i++) {
+            try {
+                sorted[i] = runs.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for sorted runs", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Sorting a run failed", e.getCause());
+            }
+        }
+        runs.clear();
+        workers.shutdown();
+        return new LoserTree(sorted);
+    }
+
+    /**
+     * finish() as an IntStream
+     */
+    public IntStream finishAsStream() {
+        return StreamSupport.intStream(
+                Spliterators.spliteratorUnknownSize(finish(), Spliterator.ORDERED | Spliterator.SORTED),
+                false);
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
\ No newline at end of file